@@ -0,0 +1,177 @@
+package StackNQueue;
+
+import java.util.NoSuchElementException;
+
+// unbounded int deque stored in fixed int[] blocks of BLOCK_SIZE values, linked both ways.
+// Adding or removing at either end touches one slot (O(1), no per-value allocation); a new
+// block is linked when an end block fills up, and an emptied end block is unlinked. Unlike
+// ArrayDeque or IntStack2 it never copies its contents to grow. One emptied block is kept as
+// a spare, so a queue whose contents roll from block to block, or a stack bouncing across a
+// block boundary, reuses it instead of allocating.
+// push/pop work at the front (stack), enqueue adds at the back and dequeue takes from the
+// front (queue); every remove and get on an empty deque throws NoSuchElementException
+public class IntChunkedDeque {
+    static final int BLOCK_SIZE = 1024;
+
+    private static final class Block {
+        final int[] values = new int[BLOCK_SIZE];
+        Block prev;
+        Block next;
+    }
+
+    private Block first;
+    // slot of the first value in first
+    private int firstIndex;
+    private Block last;
+    // slot after the last value in last
+    private int lastIndex;
+    private int size;
+    private Block spare;
+
+    public IntChunkedDeque() {
+        first = new Block();
+        last = first;
+        recenter();
+    }
+
+    // an empty deque starts mid-block so that both ends have room
+    private void recenter() {
+        firstIndex = BLOCK_SIZE / 2;
+        lastIndex = BLOCK_SIZE / 2;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void printDeque() {
+        for (Block block = first; block != null; block = block.next) {
+            int from = block == first ? firstIndex : 0;
+            int to = block == last ? lastIndex : BLOCK_SIZE;
+            for (int i = from; i < to; i++) {
+                System.out.println(block.values[i]);
+            }
+        }
+    }
+
+    public void addFirst(int value) {
+        if (firstIndex == 0) {
+            Block block = newBlock();
+            block.next = first;
+            first.prev = block;
+            first = block;
+            firstIndex = BLOCK_SIZE;
+        }
+        first.values[--firstIndex] = value;
+        size++;
+    }
+
+    public void addLast(int value) {
+        if (lastIndex == BLOCK_SIZE) {
+            Block block = newBlock();
+            block.prev = last;
+            last.next = block;
+            last = block;
+            lastIndex = 0;
+        }
+        last.values[lastIndex++] = value;
+        size++;
+    }
+
+    public int removeFirst() {
+        checkNotEmpty();
+        int value = first.values[firstIndex++];
+        size--;
+        if (size == 0) {
+            recenter();
+        } else if (firstIndex == BLOCK_SIZE) {
+            Block emptied = first;
+            first = first.next;
+            first.prev = null;
+            firstIndex = 0;
+            release(emptied);
+        }
+        return value;
+    }
+
+    public int removeLast() {
+        checkNotEmpty();
+        int value = last.values[--lastIndex];
+        size--;
+        if (size == 0) {
+            recenter();
+        } else if (lastIndex == 0) {
+            Block emptied = last;
+            last = last.prev;
+            last.next = null;
+            lastIndex = BLOCK_SIZE;
+            release(emptied);
+        }
+        return value;
+    }
+
+    public int getFirst() {
+        checkNotEmpty();
+        return first.values[firstIndex];
+    }
+
+    public int getLast() {
+        checkNotEmpty();
+        return last.values[lastIndex - 1];
+    }
+
+    // stack: the top is the front
+    public void push(int value) {
+        addFirst(value);
+    }
+
+    public int pop() {
+        return removeFirst();
+    }
+
+    // queue: in at the back, out at the front
+    public void enqueue(int value) {
+        addLast(value);
+    }
+
+    public int dequeue() {
+        return removeFirst();
+    }
+
+    public int[] toArray() {
+        int[] values = new int[size];
+        int i = 0;
+        for (Block block = first; block != null; block = block.next) {
+            int from = block == first ? firstIndex : 0;
+            int to = block == last ? lastIndex : BLOCK_SIZE;
+            System.arraycopy(block.values, from, values, i, to - from);
+            i += to - from;
+        }
+        return values;
+    }
+
+    private Block newBlock() {
+        Block block = spare;
+        if (block == null) {
+            return new Block();
+        }
+        spare = null;
+        return block;
+    }
+
+    private void release(Block block) {
+        block.prev = null;
+        block.next = null;
+        spare = block;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+    }
+}
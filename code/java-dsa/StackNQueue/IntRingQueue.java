@@ -0,0 +1,75 @@
+package StackNQueue;
+
+// fixed-capacity int queue on a preallocated ring buffer: nothing is allocated per value.
+// head/tail only ever count up and the slot is (counter & mask), which is why the capacity
+// is rounded up to a power of two. A full queue rejects offer instead of growing.
+// Single-threaded; see SpscIntRingQueue for one producer and one consumer thread
+public class IntRingQueue {
+    // what poll/peek return on an empty queue; check isEmpty first if MIN_VALUE is a real value
+    public static final int EMPTY = Integer.MIN_VALUE;
+
+    private final int[] buffer;
+    private final int mask;
+    private long head;
+    private long tail;
+
+    public IntRingQueue(int capacity) {
+        buffer = new int[roundUpToPowerOfTwo(capacity)];
+        mask = buffer.length - 1;
+    }
+
+    static int roundUpToPowerOfTwo(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+        }
+        return 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    public int size() {
+        return (int) (tail - head);
+    }
+
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    public boolean isFull() {
+        return tail - head == buffer.length;
+    }
+
+    public void printQueue() {
+        for (long i = head; i < tail; i++) {
+            System.out.println(buffer[(int) i & mask]);
+        }
+    }
+
+    // false when the queue is full
+    public boolean offer(int value) {
+        if (tail - head == buffer.length) {
+            return false;
+        }
+        buffer[(int) tail & mask] = value;
+        tail++;
+        return true;
+    }
+
+    public int poll() {
+        if (head == tail) {
+            return EMPTY;
+        }
+        int value = buffer[(int) head & mask];
+        head++;
+        return value;
+    }
+
+    public int peek() {
+        if (head == tail) {
+            return EMPTY;
+        }
+        return buffer[(int) head & mask];
+    }
+}
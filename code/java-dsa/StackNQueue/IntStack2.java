@@ -0,0 +1,77 @@
+package StackNQueue;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+// Stack2 for ints without the boxing: values sit in a plain int[] that doubles when it is
+// full, so once it has grown to the working depth push/pop allocate nothing.
+// pop/peek on an empty stack throw EmptyStackException (there is no null int)
+public class IntStack2 {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] stackArray;
+    private int size;
+
+    public IntStack2() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntStack2(int initialCapacity) {
+        stackArray = new int[Math.max(1, initialCapacity)];
+    }
+
+    public void printStack() {
+        for (int i = size - 1; i >= 0; i--) {
+            System.out.println(stackArray[i]);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int peek() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return stackArray[size - 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void push(int value) {
+        if (size == stackArray.length) {
+            ensureCapacity(size + 1);
+        }
+        stackArray[size++] = value;
+    }
+
+    public int pop() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return stackArray[--size];
+    }
+
+    // growth policy: at least double, so n pushes copy fewer than 2n values in total
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > stackArray.length) {
+            int newCapacity = Math.max(minCapacity, stackArray.length * 2);
+            stackArray = Arrays.copyOf(stackArray, newCapacity);
+        }
+    }
+
+    // gives back the spare room after a deep stack has been drained
+    public void trimToSize() {
+        if (stackArray.length > Math.max(size, 1)) {
+            stackArray = Arrays.copyOf(stackArray, Math.max(size, 1));
+        }
+    }
+
+    // bottom to top
+    public int[] toArray() {
+        return Arrays.copyOf(stackArray, size);
+    }
+}
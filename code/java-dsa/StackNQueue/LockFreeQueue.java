@@ -0,0 +1,99 @@
+package StackNQueue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Michael-Scott lock-free queue: any number of threads can enqueue and dequeue at once.
+// head always points at a dummy node, the values sit in the nodes after it.
+// Links are swung with VarHandle compare-and-set; a thread that finds tail lagging
+// behind the real last node moves it forward before retrying, so nobody waits on anybody
+public class LockFreeQueue {
+    private static final VarHandle NEXT;
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            HEAD = lookup.findVarHandle(LockFreeQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(LockFreeQueue.class, "tail", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node head;
+    private volatile Node tail;
+
+    public LockFreeQueue() {
+        Node dummy = new Node(0);
+        head = dummy;
+        tail = dummy;
+    }
+
+    public LockFreeQueue(int value) {
+        this();
+        enqueue(value);
+    }
+
+    public boolean isEmpty() {
+        return NEXT.getAcquire(head) == null;
+    }
+
+    // weakly consistent: shows some state the queue was in while printing
+    public void printQueue() {
+        Node temp = (Node) NEXT.getAcquire(head);
+        while (temp != null) {
+            System.out.println(temp.value);
+            temp = (Node) NEXT.getAcquire(temp);
+        }
+    }
+
+    public void enqueue(int value) {
+        Node newNode = new Node(value);
+        while (true) {
+            Node last = tail;
+            Node next = (Node) NEXT.getAcquire(last);
+            if (last != tail) {
+                continue;
+            }
+            if (next == null) {
+                // link after the real last node; the CAS also publishes newNode.value
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    // fine if this fails: another thread already moved tail for us
+                    TAIL.compareAndSet(this, last, newNode);
+                    return;
+                }
+            } else {
+                // tail is lagging, help it forward
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    // returns null when the queue is empty. Internal nodes may still be read by other
+    // threads after they leave the queue, so the value is returned instead of the Node
+    public Integer dequeue() {
+        while (true) {
+            Node first = head;
+            Node last = tail;
+            Node next = (Node) NEXT.getAcquire(first);
+            if (first != head) {
+                continue;
+            }
+            if (next == null) {
+                return null;
+            }
+            if (first == last) {
+                // an enqueue is half done, finish it before taking its node
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+            int value = next.value;
+            if (HEAD.compareAndSet(this, first, next)) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package StackNQueue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Treiber stack: push/pop swing `top` with one compare-and-set, so any number of threads
+// can use it at once without a lock. Optionally, a thread whose CAS on top loses parks its
+// push (or looks for a parked push to pop) in a small elimination array, so a push and a
+// pop that collide cancel out there instead of retrying on top.
+// The height is a LongAdder: each thread bumps its own cell, so counting never becomes the
+// contended spot; that also makes size() a moving snapshot under concurrency
+public class LockFreeStack {
+    private static final VarHandle TOP;
+
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(LockFreeStack.class, "top", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node top;
+    private final LongAdder height = new LongAdder();
+    private final EliminationArray elimination;
+
+    public LockFreeStack() {
+        this(false);
+    }
+
+    public LockFreeStack(boolean eliminationBackoff) {
+        elimination = eliminationBackoff ? new EliminationArray() : null;
+    }
+
+    public LockFreeStack(int value) {
+        this();
+        push(value);
+    }
+
+    public boolean isEmpty() {
+        return top == null;
+    }
+
+    public int size() {
+        return (int) height.sum();
+    }
+
+    // weakly consistent: shows some state the stack was in while printing
+    public void printStack() {
+        Node temp = top;
+        while (temp != null) {
+            System.out.println(temp.value);
+            temp = temp.next;
+        }
+    }
+
+    public void getTop() {
+        Node current = top;
+        if (current == null) {
+            System.out.println("Stack is empty");
+        } else {
+            System.out.println("Top value: " + current.value);
+        }
+    }
+
+    public void getHeight() {
+        System.out.println("Stack height: " + size());
+    }
+
+    public void push(int value) {
+        Node newNode = new Node(value);
+        while (true) {
+            Node oldTop = top;
+            newNode.next = oldTop;
+            if (TOP.compareAndSet(this, oldTop, newNode)) {
+                break;
+            }
+            if (elimination != null && elimination.offer(newNode)) {
+                // a concurrent pop took the node: push and pop cancelled out
+                break;
+            }
+        }
+        height.increment();
+    }
+
+    public Node pop() {
+        while (true) {
+            Node oldTop = top;
+            if (oldTop == null) {
+                return null;
+            }
+            if (TOP.compareAndSet(this, oldTop, oldTop.next)) {
+                // safe to unlink: a node is never pushed twice, so no CAS can still
+                // succeed against oldTop once it has left the top
+                oldTop.next = null;
+                height.decrement();
+                return oldTop;
+            }
+            if (elimination != null) {
+                Node eliminated = elimination.take();
+                if (eliminated != null) {
+                    height.decrement();
+                    return eliminated;
+                }
+            }
+        }
+    }
+
+    // slots where a push waits briefly for a pop to take its node
+    static final class EliminationArray {
+        private static final int SPINS = 64;
+
+        private final AtomicReferenceArray<Node> slots;
+        private final int mask;
+
+        EliminationArray() {
+            int cpus = Runtime.getRuntime().availableProcessors();
+            int size = Integer.highestOneBit(Math.max(1, Math.min(cpus, 32)));
+            slots = new AtomicReferenceArray<>(size);
+            mask = size - 1;
+        }
+
+        // true if a pop took the node while it was parked
+        boolean offer(Node node) {
+            int slot = ThreadLocalRandom.current().nextInt() & mask;
+            if (!slots.compareAndSet(slot, null, node)) {
+                return false;
+            }
+            for (int i = 0; i < SPINS; i++) {
+                if (slots.get(slot) != node) {
+                    return true;
+                }
+                Thread.onSpinWait();
+            }
+            // withdraw; if that fails a pop got there first
+            return !slots.compareAndSet(slot, node, null);
+        }
+
+        Node take() {
+            int slot = ThreadLocalRandom.current().nextInt() & mask;
+            Node node = slots.get(slot);
+            if (node != null && slots.compareAndSet(slot, node, null)) {
+                // next still points at whatever top the push last tried
+                node.next = null;
+                return node;
+            }
+            return null;
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package StackNQueue;
 
+import java.util.NoSuchElementException;
+
+import util.NodePool;
+
 public class Queue {
     private Node first;
     private Node last;
     private int length;
+    // optional node recycling (see NodePool); null when off
+    private NodePool<Node> pool;
 
     public Queue(int value) {
         Node newNode = new Node(value);
@@ -38,9 +44,30 @@ public class Queue {
         System.out.println("Queue length: " + length);
     }
 
+    // recycle removed nodes through a pool of up to capacity nodes; only dequeueValue feeds it,
+    // dequeue hands the Node to the caller
+    public void enableNodePool(int capacity) {
+        pool = new NodePool<>(capacity);
+    }
+
+    public NodePool<Node> getNodePool() {
+        return pool;
+    }
+
+    private Node newNode(int value) {
+        if (pool != null) {
+            Node node = pool.acquire();
+            if (node != null) {
+                node.value = value;
+                return node;
+            }
+        }
+        return new Node(value);
+    }
+
     // similar to to append in linked list
     public void enqueue(int value) {
-        Node newNode = new Node(value);
+        Node newNode = newNode(value);
         if (length == 0) {
             first = newNode;
             last = newNode;
@@ -66,4 +93,14 @@ public class Queue {
         length--;
         return temp;
     }
+
+    public int dequeueValue() {
+        Node node = dequeue();
+        if (node == null) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        int value = node.value;
+        if (pool != null) pool.release(node);
+        return value;
+    }
 }
@@ -1,39 +1,63 @@
 package StackNQueue;
 
 public class Queue2 {
-    private Stack2<Integer> stack1;
-    private Stack2<Integer> stack2;
+    // enqueue pushes onto the inbox; dequeue/peek pop from the outbox and only refill it
+    // (by moving the whole inbox over, which reverses it into FIFO order) when it runs dry.
+    // every value is moved at most once, so both ends are amortized O(1)
+    private IntStack2 inbox;
+    private IntStack2 outbox;
     public Queue2() {
-        stack1 = new Stack2<>();
-        stack2 = new Stack2<>();
+        inbox = new IntStack2();
+        outbox = new IntStack2();
     }
 
     public void enqueue(int value) {
-        if (stack1.isEmpty()) {
-            stack1.push(value);
-        } else {
-            while (!stack1.isEmpty()) {
-                stack2.push(stack1.pop());
-            }
-            stack1.push(value);
-            while (!stack2.isEmpty()) {
-                stack1.push(stack2.pop());
+        inbox.push(value);
+    }
+
+    public void enqueueAll(int... values) {
+        for (int value : values) {
+            inbox.push(value);
+        }
+    }
+
+    private void refillOutbox() {
+        if (outbox.isEmpty()) {
+            while (!inbox.isEmpty()) {
+                outbox.push(inbox.pop());
             }
         }
     }
 
     public Integer dequeue() {
-        if (stack1.isEmpty()) {
+        if (isEmpty()) {
             return null;
-        } else {
-            return stack1.pop();
         }
+        refillOutbox();
+        return outbox.pop();
     }
+
+    // dequeues up to max values, oldest first; shorter if the queue runs out
+    public int[] dequeueBatch(int max) {
+        int count = Math.min(Math.max(max, 0), size());
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            refillOutbox();
+            values[i] = outbox.pop();
+        }
+        return values;
+    }
+
     public int peek() {
-        return stack1.peek();
+        refillOutbox();
+        return outbox.peek();
     }
 
     public boolean isEmpty() {
-        return stack1.isEmpty();
+        return inbox.isEmpty() && outbox.isEmpty();
+    }
+
+    public int size() {
+        return inbox.size() + outbox.size();
     }
 }
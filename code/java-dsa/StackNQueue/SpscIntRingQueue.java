@@ -0,0 +1,123 @@
+package StackNQueue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// IntRingQueue for exactly one producer thread (offer) and one consumer thread (poll/peek),
+// lock-free: each side only writes its own counter and publishes it with a release store,
+// the other side reads it with an acquire load.
+// tail (producer) and head (consumer) sit on their own cache lines, padded by the classes
+// below, so the two threads don't keep stealing one line from each other. Each side also
+// caches the other side's counter and only re-reads it when the cached value says
+// full/empty, which keeps cross-core traffic to a minimum
+public class SpscIntRingQueue extends SpscPadAfterHead {
+    public static final int EMPTY = IntRingQueue.EMPTY;
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(int[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscHead.class, "head", long.class);
+            TAIL = lookup.findVarHandle(SpscTail.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int[] buffer;
+    private final int mask;
+
+    public SpscIntRingQueue(int capacity) {
+        buffer = new int[IntRingQueue.roundUpToPowerOfTwo(capacity)];
+        mask = buffer.length - 1;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    // a snapshot; exact only when neither side is running. head is read first: tail never
+    // falls behind a head read earlier, so the result is never negative (and the consumer
+    // moving on in between can only make it too large, so it is capped at capacity)
+    public int size() {
+        long currentHead = (long) HEAD.getAcquire(this);
+        long currentTail = (long) TAIL.getAcquire(this);
+        return (int) Math.min(currentTail - currentHead, buffer.length);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // producer thread only; false when the queue is full
+    public boolean offer(int value) {
+        long currentTail = tail;
+        if (currentTail - cachedHead == buffer.length) {
+            cachedHead = (long) HEAD.getAcquire(this);
+            if (currentTail - cachedHead == buffer.length) {
+                return false;
+            }
+        }
+        SLOT.set(buffer, (int) currentTail & mask, value);
+        // release: the slot write is visible before the consumer can see the new tail
+        TAIL.setRelease(this, currentTail + 1);
+        return true;
+    }
+
+    // consumer thread only; EMPTY when the queue is empty
+    public int poll() {
+        long currentHead = head;
+        if (currentHead == cachedTail) {
+            cachedTail = (long) TAIL.getAcquire(this);
+            if (currentHead == cachedTail) {
+                return EMPTY;
+            }
+        }
+        int value = (int) SLOT.get(buffer, (int) currentHead & mask);
+        // release: the slot read is done before the producer may overwrite it
+        HEAD.setRelease(this, currentHead + 1);
+        return value;
+    }
+
+    // consumer thread only
+    public int peek() {
+        long currentHead = head;
+        if (currentHead == cachedTail) {
+            cachedTail = (long) TAIL.getAcquire(this);
+            if (currentHead == cachedTail) {
+                return EMPTY;
+            }
+        }
+        return (int) SLOT.get(buffer, (int) currentHead & mask);
+    }
+}
+
+// field padding: HotSpot lays out superclass fields before subclass fields, so each run of
+// 8 longs keeps a full 64-byte line between the producer's and the consumer's hot fields
+
+abstract class SpscPadBeforeTail {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SpscTail extends SpscPadBeforeTail {
+    // written by the producer only
+    long tail;
+    long cachedHead;
+}
+
+abstract class SpscPadBetween extends SpscTail {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class SpscHead extends SpscPadBetween {
+    // written by the consumer only
+    long head;
+    long cachedTail;
+}
+
+abstract class SpscPadAfterHead extends SpscHead {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
@@ -1,8 +1,14 @@
 package StackNQueue;
 
+import java.util.EmptyStackException;
+
+import util.NodePool;
+
 public class Stack {
     private Node top;
     private int height;
+    // optional node recycling (see NodePool); null when off
+    private NodePool<Node> pool;
 
     
 
@@ -33,9 +39,30 @@ public class Stack {
         System.out.println("Stack height: " + height);
     }
 
+    // recycle removed nodes through a pool of up to capacity nodes; only popValue feeds it,
+    // pop hands the Node to the caller
+    public void enableNodePool(int capacity) {
+        pool = new NodePool<>(capacity);
+    }
+
+    public NodePool<Node> getNodePool() {
+        return pool;
+    }
+
+    private Node newNode(int value) {
+        if (pool != null) {
+            Node node = pool.acquire();
+            if (node != null) {
+                node.value = value;
+                return node;
+            }
+        }
+        return new Node(value);
+    }
+
     // push , similar to prepend in linked list
     public void push(int value) {
-        Node newNode = new Node(value);
+        Node newNode = newNode(value);
         if (height == 0){
             top = newNode; 
         } else {
@@ -52,4 +79,14 @@ public class Stack {
         height--;
         return temp;
     }
+
+    public int popValue() {
+        Node node = pop();
+        if (node == null) {
+            throw new EmptyStackException();
+        }
+        int value = node.value;
+        if (pool != null) pool.release(node);
+        return value;
+    }
 }
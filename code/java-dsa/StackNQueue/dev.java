@@ -1,49 +1,46 @@
 package StackNQueue;
 
+import java.util.Comparator;
+
+import sort.IntSort;
+import text.BracketValidator;
+import text.TextReverser;
+
 public class dev {
+    // only ( and ) count, so the validator runs its depth-counter path
+    private static final BracketValidator PARENTHESES = new BracketValidator("(", ")");
+
+    // one char[] copy reversed in place, keeping surrogate pairs intact (see TextReverser);
+    // the old stack-and-concatenate version copied the whole result on every char
     static public String reverseString(String str) {
-        Stack2<Character> myStack = new Stack2<>();
-        for (int i = 0; i < str.length(); i++) {
-            myStack.push(str.charAt(i));
+        return TextReverser.reverse(str);
+    }
+
+    // smallest value ends on top: drain into an int[], sort it (IntSort, O(n log n)), then
+    // push it back largest first. The old two-stack insertion sort was O(n^2); it lives on in
+    // QuadraticSortStackBenchmark
+    static public void sortStack(IntStack2 inputStack) {
+        int[] values = new int[inputStack.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = inputStack.pop();
         }
-        String reversedStr = "";
-        while (!myStack.isEmpty()) {
-            reversedStr += myStack.pop();
+        IntSort.sort(values);
+        for (int i = values.length - 1; i >= 0; i--) {
+            inputStack.push(values[i]);
         }
-        System.out.println("Reversed string: " + reversedStr);
-        return reversedStr;
     }
 
+    // in place on the backing list: the top is the list's last element, so sorting it in
+    // descending order puts the smallest on top. No values are popped, pushed or reboxed
     static public void sortStack(Stack2<Integer> inputStack) {
-        Stack2<Integer> tempStack = new Stack2<>();
-        while (!inputStack.isEmpty()) {
-            int temp = inputStack.pop();
-            while (!tempStack.isEmpty() && tempStack.peek() > temp) {
-                inputStack.push(tempStack.pop());
-            }
-            tempStack.push(temp);
-        }
-        while (!tempStack.isEmpty()) {
-            inputStack.push(tempStack.pop());
-        }
+        inputStack.getStackList().sort(Comparator.reverseOrder());
     }
+
     static public boolean isBalancedParentheses(String str) {
-        Stack2<Character> stack = new Stack2<>();
-        for (int i = 0; i < str.length(); i++) {
-            char ch = str.charAt(i);
-            if (ch == '(') {
-                stack.push(ch);
-            } else if (ch == ')') {
-                if (stack.isEmpty()) {
-                    return false;
-                }
-                stack.pop();
-            }
-        }
-        return stack.isEmpty();
+        return PARENTHESES.isBalanced(str);
     }
     public static void main(String[] args) {
-         Stack2<Integer> stack;
+         IntStack2 stack;
 
         System.out.println("These tests confirm sortStack sorts");
         System.out.println("the stack so the TOP is the LOWEST value.");
@@ -53,7 +50,7 @@ public class dev {
 
         // Test 1: Empty stack
         System.out.println("Test 1: Empty Stack");
-        stack = new Stack2<>();
+        stack = new IntStack2();
         sortStack(stack);
         System.out.println("Expected (top to bottom): empty");
         stack.printStack();
@@ -61,7 +58,7 @@ public class dev {
 
         // Test 2: Single element
         System.out.println("Test 2: Single Element");
-        stack = new Stack2<>();
+        stack = new IntStack2();
         stack.push(5);
         sortStack(stack);
         System.out.println("Expected (top to bottom): 5");
@@ -70,7 +67,7 @@ public class dev {
 
         // Test 3: Unsorted stack
         System.out.println("Test 3: Unsorted Stack");
-        stack = new Stack2<>();
+        stack = new IntStack2();
         stack.push(3);
         stack.push(1);
         stack.push(4);
@@ -82,7 +79,7 @@ public class dev {
 
         // Test 4: Already sorted
         System.out.println("Test 4: Already Sorted Stack");
-        stack = new Stack2<>();
+        stack = new IntStack2();
         stack.push(4);
         stack.push(3);
         stack.push(2);
@@ -94,7 +91,7 @@ public class dev {
 
         // Test 5: Reverse sorted
         System.out.println("Test 5: Reverse Sorted Stack");
-        stack = new Stack2<>();
+        stack = new IntStack2();
         stack.push(1);
         stack.push(2);
         stack.push(3);
@@ -106,7 +103,7 @@ public class dev {
 
         // Test 6: With duplicates
         System.out.println("Test 6: With Duplicates");
-        stack = new Stack2<>();
+        stack = new IntStack2();
         stack.push(3);
         stack.push(1);
         stack.push(3);
@@ -119,7 +116,7 @@ public class dev {
 
         // Test 7: With negatives
         System.out.println("Test 7: With Negatives");
-        stack = new Stack2<>();
+        stack = new IntStack2();
         stack.push(-1);
         stack.push(3);
         stack.push(-5);
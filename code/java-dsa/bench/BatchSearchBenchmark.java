@@ -0,0 +1,81 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkedList.Search;
+import search.SortedArrays;
+
+// lookups per second for QUERIES random present keys per call: one binarySearch at a time
+// against Search.searchAll and the two strategies it picks from (interleaved searches, or
+// sorting the keys and merge-walking the array, chosen once the keys outnumber an eighth
+// of the array)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BatchSearchBenchmark {
+
+    static final int QUERIES = 4096;
+
+    @Param({"1000", "100000", "1000000", "10000000", "100000000"})
+    int size;
+
+    int[] nums;
+    int[] targets;
+    Search search;
+
+    @Setup
+    public void setUp() {
+        nums = BenchData.sortedInts(size);
+        int[] indices = BenchData.randomIndices(0, size, QUERIES);
+        targets = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            targets[i] = nums[indices[i]];
+        }
+        search = new Search(nums, 0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int[] oneAtATime() {
+        int[] result = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            search.setTarget(targets[i]);
+            result[i] = search.binarySearch();
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int[] searchAll() {
+        return search.searchAll(targets);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int[] interleaved() {
+        return SortedArrays.interleavedSearchAll(nums, targets);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int[] mergeWalk() {
+        return SortedArrays.mergeSearchAll(nums, targets);
+    }
+}
@@ -0,0 +1,160 @@
+package bench;
+
+import java.util.Random;
+
+import ddl.DoublyLinkedList;
+import linkedList.IntArrayList;
+import linkedList.IntList;
+import linkedList.LinkedList;
+import linkedList.UnrolledLinkedList;
+
+// shared input generators so every benchmark sees the same seeded data
+final class BenchData {
+    static final long SEED = 42L;
+
+    // random lookups cycle through this many precomputed indices (must be a power of two)
+    static final int INDEX_COUNT = 1024;
+    static final int INDEX_MASK = INDEX_COUNT - 1;
+
+    private BenchData() {
+    }
+
+    static int[] randomInts(int size) {
+        Random random = new Random(SEED);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+        return values;
+    }
+
+    // sorted, distinct values: 0, 2, 4, ...
+    static int[] sortedInts(int size) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i * 2;
+        }
+        return values;
+    }
+
+    // sort inputs: "random", "sorted" (ascending), "reversed" (descending) or
+    // "fewUnique" (random values drawn from only 16 distinct ones)
+    static int[] ints(String distribution, int size) {
+        switch (distribution) {
+            case "random":
+                return randomInts(size);
+            case "sorted":
+                return sortedInts(size);
+            case "reversed": {
+                int[] values = new int[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = (size - i) * 2;
+                }
+                return values;
+            }
+            case "fewUnique": {
+                Random random = new Random(SEED);
+                int[] values = new int[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = random.nextInt(16);
+                }
+                return values;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown distribution: " + distribution);
+        }
+    }
+
+    // length chars of text: mostly ASCII letters and spaces, with about one char in 64 half of
+    // a surrogate pair (an emoji), so the String is stored as UTF-16 like real mixed text
+    static String text(int length) {
+        Random random = new Random(SEED);
+        char[] chars = new char[length];
+        int i = 0;
+        while (i < length) {
+            int kind = random.nextInt(128);
+            if (kind == 0 && i + 1 < length) {
+                Character.toChars(0x1F600 + random.nextInt(80), chars, i);
+                i += 2;
+            } else {
+                chars[i++] = kind < 16 ? ' ' : (char) ('a' + kind % 26);
+            }
+        }
+        return new String(chars);
+    }
+
+    // length chars of ASCII source-like text with about one char in 4 a bracket: (), [] and {}
+    // properly nested up to MAX_NESTING deep and all closed at the end, so it is balanced
+    static String brackets(int length) {
+        final int MAX_NESTING = 64;
+        Random random = new Random(SEED);
+        char[] chars = new char[length];
+        char[] open = new char[MAX_NESTING];
+        int depth = 0;
+        for (int i = 0; i < length; i++) {
+            int kind = random.nextInt(16);
+            if (length - i == depth) {
+                chars[i] = open[--depth];
+            } else if (kind < 2 && depth < MAX_NESTING && length - i > depth + 1) {
+                int pair = random.nextInt(3);
+                chars[i] = "([{".charAt(pair);
+                open[depth++] = ")]}".charAt(pair);
+            } else if (kind < 4 && depth > 0) {
+                chars[i] = open[--depth];
+            } else {
+                chars[i] = kind < 6 ? ' ' : (char) ('a' + random.nextInt(26));
+            }
+        }
+        return new String(chars);
+    }
+
+    // INDEX_COUNT random indices in [from, to)
+    static int[] randomIndices(int from, int to) {
+        return randomIndices(from, to, INDEX_COUNT);
+    }
+
+    // count random indices in [from, to)
+    static int[] randomIndices(int from, int to, int count) {
+        Random random = new Random(SEED);
+        int[] indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = from + random.nextInt(to - from);
+        }
+        return indices;
+    }
+
+    static LinkedList linkedList(int size) {
+        LinkedList list = new LinkedList(0);
+        for (int i = 1; i < size; i++) {
+            list.append(i);
+        }
+        return list;
+    }
+
+    // impl is "linked" (LinkedList), "array" (IntArrayList) or "unrolled" (UnrolledLinkedList)
+    static IntList intList(String impl, int size) {
+        IntList list;
+        switch (impl) {
+            case "array":
+                list = new IntArrayList();
+                break;
+            case "unrolled":
+                list = new UnrolledLinkedList();
+                break;
+            default:
+                list = new LinkedList();
+        }
+        for (int i = 0; i < size; i++) {
+            list.append(i);
+        }
+        return list;
+    }
+
+    static DoublyLinkedList doublyLinkedList(int size) {
+        DoublyLinkedList list = new DoublyLinkedList();
+        for (int i = 0; i < size; i++) {
+            list.append(i);
+        }
+        return list;
+    }
+}
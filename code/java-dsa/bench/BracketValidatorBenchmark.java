@@ -0,0 +1,95 @@
+package bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import StackNQueue.CharStack2;
+import text.BracketValidator;
+
+// text.BracketValidator over MEGABYTES MiB of balanced ASCII text (see BenchData.brackets).
+// Each call checks the whole input and counts as MEGABYTES operations, so the ops/s scores
+// are MB/s (one char or byte counted as one byte):
+// - stackLoop: the old dev.isBalancedParentheses, ( and ) only, on a CharStack2
+// - counter / counterChannel: the validator with the single pair (), depth counter
+// - string / reader / channel: the validator with (), [] and {}; reader goes through a
+//   StringReader, channel scans the ASCII bytes from a ReadableByteChannel
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@OperationsPerInvocation(BracketValidatorBenchmark.MEGABYTES)
+public class BracketValidatorBenchmark {
+
+    static final int MEGABYTES = 16;
+
+    static final BracketValidator PARENTHESES = new BracketValidator("(", ")");
+
+    String text;
+    byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        text = BenchData.brackets(MEGABYTES << 20);
+        bytes = text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public boolean stackLoop() {
+        CharStack2 stack = new CharStack2();
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == '(') {
+                stack.push(ch);
+            } else if (ch == ')') {
+                if (stack.isEmpty()) {
+                    return false;
+                }
+                stack.pop();
+            }
+        }
+        return stack.isEmpty();
+    }
+
+    @Benchmark
+    public long counter() {
+        return PARENTHESES.firstMismatch(text);
+    }
+
+    @Benchmark
+    public long counterChannel() throws IOException {
+        return PARENTHESES.firstMismatch(Channels.newChannel(new ByteArrayInputStream(bytes)));
+    }
+
+    @Benchmark
+    public long string() {
+        return BracketValidator.STANDARD.firstMismatch(text);
+    }
+
+    @Benchmark
+    public long reader() throws IOException {
+        return BracketValidator.STANDARD.firstMismatch(new StringReader(text));
+    }
+
+    @Benchmark
+    public long channel() throws IOException {
+        return BracketValidator.STANDARD.firstMismatch(Channels.newChannel(new ByteArrayInputStream(bytes)));
+    }
+}
@@ -0,0 +1,162 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import StackNQueue.IntChunkedDeque;
+import StackNQueue.IntStack2;
+import StackNQueue.Queue;
+import StackNQueue.Queue2;
+import StackNQueue.Stack;
+
+// IntChunkedDeque against the node-per-value Queue and Stack and the array-backed Queue2
+// and IntStack2, over `ops` values per call:
+// - *FillDrain: add ops values, then remove them all (the structure grows to ops values;
+//   the array-backed ones copy themselves while doubling)
+// - *Steady: ops add/remove pairs at a depth of STEADY_DEPTH (a queue's contents roll
+//   through the blocks, the node queue allocates a node per pair)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ChunkedDequeBenchmark {
+
+    static final int STEADY_DEPTH = 4096;
+
+    @Param({"1000000", "10000000", "100000000"})
+    int ops;
+
+    @Benchmark
+    public long queueFillDrain() {
+        Queue queue = new Queue(0);
+        queue.dequeue();
+        for (int i = 0; i < ops; i++) {
+            queue.enqueue(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < ops; i++) {
+            sum += queue.dequeue().value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long queue2FillDrain() {
+        Queue2 queue = new Queue2();
+        for (int i = 0; i < ops; i++) {
+            queue.enqueue(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < ops; i++) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long dequeQueueFillDrain() {
+        IntChunkedDeque deque = new IntChunkedDeque();
+        for (int i = 0; i < ops; i++) {
+            deque.enqueue(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < ops; i++) {
+            sum += deque.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long stackFillDrain() {
+        Stack stack = new Stack(0);
+        stack.pop();
+        for (int i = 0; i < ops; i++) {
+            stack.push(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < ops; i++) {
+            sum += stack.pop().value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intStack2FillDrain() {
+        IntStack2 stack = new IntStack2();
+        for (int i = 0; i < ops; i++) {
+            stack.push(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < ops; i++) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long dequeStackFillDrain() {
+        IntChunkedDeque deque = new IntChunkedDeque();
+        for (int i = 0; i < ops; i++) {
+            deque.push(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < ops; i++) {
+            sum += deque.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long queueSteady() {
+        Queue queue = new Queue(0);
+        for (int i = 1; i < STEADY_DEPTH; i++) {
+            queue.enqueue(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < ops; i++) {
+            queue.enqueue(i);
+            sum += queue.dequeue().value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long queue2Steady() {
+        Queue2 queue = new Queue2();
+        for (int i = 0; i < STEADY_DEPTH; i++) {
+            queue.enqueue(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < ops; i++) {
+            queue.enqueue(i);
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long dequeQueueSteady() {
+        IntChunkedDeque deque = new IntChunkedDeque();
+        for (int i = 0; i < STEADY_DEPTH; i++) {
+            deque.enqueue(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < ops; i++) {
+            deque.enqueue(i);
+            sum += deque.dequeue();
+        }
+        return sum;
+    }
+}
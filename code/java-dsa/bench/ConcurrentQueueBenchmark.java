@@ -0,0 +1,117 @@
+package bench;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import StackNQueue.LockFreeQueue;
+import StackNQueue.Queue;
+
+// every thread enqueues then dequeues, so each one is both a producer and a consumer and the
+// queue stays near its prefilled size. Run at several thread counts with bench.ThreadSweep
+// (or -t N): LockFreeQueue vs Queue behind a lock vs ConcurrentLinkedQueue. The values come
+// from a per-thread counter above the Integer cache (-128..127), so the queues that box
+// (LockFreeQueue.dequeue, ConcurrentLinkedQueue) pay for a new Integer like real values would
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentQueueBenchmark {
+
+    interface IntQueue {
+        void enqueue(int value);
+
+        Object dequeue();
+    }
+
+    static final int PREFILL = 1000;
+
+    @State(Scope.Thread)
+    public static class Values {
+        // 1024 + a 30-bit counter: never a cached Integer, even after wrapping
+        private int next;
+
+        int next() {
+            return 1024 + (next++ & ((1 << 30) - 1));
+        }
+    }
+
+    @Param({"lockFree", "synchronized", "concurrentLinkedQueue"})
+    String impl;
+
+    IntQueue queue;
+
+    @Setup
+    public void setUp() {
+        switch (impl) {
+            case "lockFree": {
+                LockFreeQueue lockFree = new LockFreeQueue();
+                queue = new IntQueue() {
+                    public void enqueue(int value) {
+                        lockFree.enqueue(value);
+                    }
+
+                    public Object dequeue() {
+                        return lockFree.dequeue();
+                    }
+                };
+                break;
+            }
+            case "synchronized": {
+                Queue locked = new Queue(0);
+                locked.dequeue();
+                queue = new IntQueue() {
+                    public void enqueue(int value) {
+                        synchronized (locked) {
+                            locked.enqueue(value);
+                        }
+                    }
+
+                    public Object dequeue() {
+                        synchronized (locked) {
+                            return locked.dequeue();
+                        }
+                    }
+                };
+                break;
+            }
+            case "concurrentLinkedQueue": {
+                ConcurrentLinkedQueue<Integer> jdk = new ConcurrentLinkedQueue<>();
+                queue = new IntQueue() {
+                    public void enqueue(int value) {
+                        jdk.offer(value);
+                    }
+
+                    public Object dequeue() {
+                        return jdk.poll();
+                    }
+                };
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("unknown impl: " + impl);
+        }
+        for (int i = 0; i < PREFILL; i++) {
+            queue.enqueue(1024 + i);
+        }
+    }
+
+    @Benchmark
+    public Object enqueueDequeue(Values values) {
+        queue.enqueue(values.next());
+        return queue.dequeue();
+    }
+}
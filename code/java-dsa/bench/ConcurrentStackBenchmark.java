@@ -0,0 +1,108 @@
+package bench;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import StackNQueue.LockFreeStack;
+import StackNQueue.Stack;
+
+// every thread pushes then pops, so the stack stays near its prefilled height. Run at
+// several thread counts with bench.ThreadSweep (or -t N): Treiber stack with and without
+// elimination vs Stack behind a lock vs ConcurrentLinkedDeque used as a stack. Values come
+// from ConcurrentQueueBenchmark.Values (per thread, above the Integer cache), so the deque
+// pays for boxing like real values would
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentStackBenchmark {
+
+    interface IntStack {
+        void push(int value);
+
+        Object pop();
+    }
+
+    static final int PREFILL = 1000;
+
+    @Param({"treiber", "elimination", "synchronized", "concurrentLinkedDeque"})
+    String impl;
+
+    IntStack stack;
+
+    @Setup
+    public void setUp() {
+        switch (impl) {
+            case "treiber":
+            case "elimination": {
+                LockFreeStack lockFree = new LockFreeStack(impl.equals("elimination"));
+                stack = new IntStack() {
+                    public void push(int value) {
+                        lockFree.push(value);
+                    }
+
+                    public Object pop() {
+                        return lockFree.pop();
+                    }
+                };
+                break;
+            }
+            case "synchronized": {
+                Stack locked = new Stack(0);
+                locked.pop();
+                stack = new IntStack() {
+                    public void push(int value) {
+                        synchronized (locked) {
+                            locked.push(value);
+                        }
+                    }
+
+                    public Object pop() {
+                        synchronized (locked) {
+                            return locked.pop();
+                        }
+                    }
+                };
+                break;
+            }
+            case "concurrentLinkedDeque": {
+                ConcurrentLinkedDeque<Integer> jdk = new ConcurrentLinkedDeque<>();
+                stack = new IntStack() {
+                    public void push(int value) {
+                        jdk.push(value);
+                    }
+
+                    public Object pop() {
+                        return jdk.pollFirst();
+                    }
+                };
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("unknown impl: " + impl);
+        }
+        for (int i = 0; i < PREFILL; i++) {
+            stack.push(1024 + i);
+        }
+    }
+
+    @Benchmark
+    public Object pushPop(ConcurrentQueueBenchmark.Values values) {
+        stack.push(values.next());
+        return stack.pop();
+    }
+}
@@ -0,0 +1,82 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ddl.DoublyLinkedList;
+
+// ddl.DoublyLinkedList at a fixed size, at random indices
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DoublyLinkedListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    DoublyLinkedList list;
+    int[] indices;
+    int cursor;
+
+    @Setup
+    public void setUp() {
+        list = BenchData.doublyLinkedList(size);
+        indices = BenchData.randomIndices(0, size);
+    }
+
+    int nextIndex() {
+        return indices[cursor++ & BenchData.INDEX_MASK];
+    }
+
+    @Benchmark
+    public DoublyLinkedList build() {
+        return BenchData.doublyLinkedList(size);
+    }
+
+    // append, then removeFirst to keep the size steady
+    @Benchmark
+    public Object append() {
+        list.append(cursor++);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public Object get() {
+        return list.get(nextIndex());
+    }
+
+    // insert at a random index, then removeFirst to keep the size steady
+    @Benchmark
+    public Object insert() {
+        list.insert(cursor++, nextIndex());
+        return list.removeFirst();
+    }
+
+    // remove at a random index, then append a value to keep the size steady
+    @Benchmark
+    public Object remove() {
+        Object removed = list.remove(nextIndex());
+        list.append(cursor++);
+        return removed;
+    }
+
+    @Benchmark
+    public DoublyLinkedList reverse() {
+        list.reverse();
+        return list;
+    }
+}
@@ -0,0 +1,70 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ddl.DoublyLinkedList;
+
+// one pass over a whole DoublyLinkedList per call:
+// - indexedPass: set(i, i) for every i; set walks through get, which the finger cache keeps
+//   O(1) per step (O(n^2) in total without it)
+// - cursorPass: the same writes through a Cursor
+// - cursorInsertRemove: insertAfter and remove of the new node at every position (size stays)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DoublyLinkedListCursorBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int size;
+
+    DoublyLinkedList list;
+
+    @Setup
+    public void setUp() {
+        list = BenchData.doublyLinkedList(size);
+    }
+
+    @Benchmark
+    public DoublyLinkedList indexedPass() {
+        for (int i = 0; i < size; i++) {
+            list.set(i, i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public DoublyLinkedList cursorPass() {
+        DoublyLinkedList.Cursor cursor = list.cursor();
+        while (cursor.isValid()) {
+            cursor.set(cursor.index());
+            cursor.next();
+        }
+        return list;
+    }
+
+    @Benchmark
+    public DoublyLinkedList cursorInsertRemove() {
+        DoublyLinkedList.Cursor cursor = list.cursor();
+        while (cursor.isValid()) {
+            cursor.insertAfter(cursor.index());
+            cursor.next();
+            cursor.remove();
+        }
+        return list;
+    }
+}
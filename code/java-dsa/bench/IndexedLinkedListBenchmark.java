@@ -0,0 +1,74 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkedList.LinkedList;
+import linkedList.Node;
+
+// random-index workloads on a plain LinkedList against one created with indexed = true.
+// insertRemove inserts and then removes at the same random index, so the size stays put;
+// appendRemoveFirst checks that keeping the index up to date leaves the ends cheap
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class IndexedLinkedListBenchmark {
+
+    @Param({"100000", "1000000"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean indexed;
+
+    LinkedList list;
+    int[] indices;
+    int cursor;
+
+    @Setup
+    public void setUp() {
+        list = new LinkedList(false, indexed);
+        for (int i = 0; i < size; i++) {
+            list.append(i);
+        }
+        indices = BenchData.randomIndices(0, size);
+        // builds the index outside the measurement
+        list.get(0);
+    }
+
+    @Benchmark
+    public Node get() {
+        return list.get(indices[cursor++ & BenchData.INDEX_MASK]);
+    }
+
+    @Benchmark
+    public boolean set() {
+        return list.set(indices[cursor++ & BenchData.INDEX_MASK], cursor);
+    }
+
+    @Benchmark
+    public Node insertRemove() {
+        int index = indices[cursor++ & BenchData.INDEX_MASK];
+        list.insert(index, cursor);
+        return list.remove(index);
+    }
+
+    @Benchmark
+    public Node appendRemoveFirst() {
+        list.append(cursor++);
+        return list.removeFirst();
+    }
+}
@@ -0,0 +1,72 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkedList.IntList;
+
+// LinkedList vs IntArrayList vs UnrolledLinkedList through the shared IntList interface.
+// build: gc.alloc.rate.norm / size is the bytes allocated per element;
+// getValue / set: random access
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class IntListBenchmark {
+
+    @Param({"linked", "array", "unrolled"})
+    String impl;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    IntList list;
+    int[] indices;
+    int cursor;
+
+    @Setup
+    public void setUp() {
+        list = BenchData.intList(impl, size);
+        indices = BenchData.randomIndices(0, size);
+    }
+
+    int nextIndex() {
+        return indices[cursor++ & BenchData.INDEX_MASK];
+    }
+
+    @Benchmark
+    public IntList build() {
+        return BenchData.intList(impl, size);
+    }
+
+    @Benchmark
+    public int getValue() {
+        return list.getValue(nextIndex());
+    }
+
+    @Benchmark
+    public boolean set() {
+        return list.set(nextIndex(), cursor);
+    }
+
+    // insert at a random index, then remove it again to keep the size steady
+    @Benchmark
+    public int insertRemove() {
+        int index = nextIndex();
+        list.insert(index, cursor);
+        return list.removeValue(index);
+    }
+}
@@ -0,0 +1,75 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import search.LinearSearch;
+
+// search.LinearSearch on unsorted non-negative ints, forked with the Vector API enabled:
+// - scalarIndexOf / indexOf: a missing key, so both scan the whole array
+// - oneAtATime / bulkContains: 8 targets (4 present, 4 missing) as 8 separate scans vs one
+//   pass of LinearSearch.contains
+// drop the add-modules flag (-jvmArgs) to measure the scalar fallback of indexOf
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+public class LinearSearchBenchmark {
+
+    static final int MISSING = -1;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    int[] nums;
+    int[] targets;
+
+    @Setup
+    public void setUp() {
+        nums = BenchData.randomInts(size);
+        for (int i = 0; i < size; i++) {
+            nums[i] &= Integer.MAX_VALUE;
+        }
+        int[] indices = BenchData.randomIndices(0, size, 4);
+        targets = new int[] {
+                nums[indices[0]], -2, nums[indices[1]], -3, nums[indices[2]], -4, nums[indices[3]], -5
+        };
+    }
+
+    @Benchmark
+    public int scalarIndexOf() {
+        return LinearSearch.scalarIndexOf(nums, MISSING);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return LinearSearch.indexOf(nums, MISSING);
+    }
+
+    @Benchmark
+    public boolean[] oneAtATime() {
+        boolean[] found = new boolean[targets.length];
+        for (int j = 0; j < targets.length; j++) {
+            found[j] = LinearSearch.scalarIndexOf(nums, targets[j]) >= 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public boolean[] bulkContains() {
+        return LinearSearch.contains(nums, targets);
+    }
+}
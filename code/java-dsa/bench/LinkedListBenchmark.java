@@ -0,0 +1,85 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkedList.LinkedList;
+import linkedList.Node;
+
+// linkedList.LinkedList at a fixed size; mutating benchmarks pair each edit with an
+// O(1) compensating edit so the list stays at `size` for the whole trial
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LinkedListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    LinkedList list;
+    int[] indices;
+    int cursor;
+
+    @Setup
+    public void setUp() {
+        list = BenchData.linkedList(size);
+        indices = BenchData.randomIndices(0, size);
+    }
+
+    int nextIndex() {
+        return indices[cursor++ & BenchData.INDEX_MASK];
+    }
+
+    // whole list from scratch: gc.alloc.rate.norm / size is the per-element footprint
+    @Benchmark
+    public LinkedList build() {
+        return BenchData.linkedList(size);
+    }
+
+    // append, then removeFirst to keep the size steady
+    @Benchmark
+    public Node append() {
+        list.append(cursor++);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public int get() {
+        return list.get(nextIndex()).value;
+    }
+
+    // insert at a random index, then removeFirst to keep the size steady
+    @Benchmark
+    public Node insert() {
+        list.insert(nextIndex(), cursor);
+        return list.removeFirst();
+    }
+
+    // remove at a random index, then prepend the value back to keep the size steady
+    @Benchmark
+    public Node remove() {
+        Node removed = list.remove(nextIndex());
+        list.prepend(removed.value);
+        return removed;
+    }
+
+    @Benchmark
+    public LinkedList reverse() {
+        list.reverse();
+        return list;
+    }
+}
@@ -0,0 +1,94 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ddl.DoublyLinkedList;
+import linkedList.LinkedList;
+import linkedList.Main;
+
+// radixSort on LinkedList and DoublyLinkedList against quickSort of the same keys in an
+// int[]. Sorting is destructive, so each call builds its list (or clones the array) first:
+// subtract the matching *Build result (or `copy`) to get the cost of the sort alone. Stops at
+// 1e7 because two generations of 1e8 nodes do not fit the 4g heap
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LinkedRadixSortBenchmark {
+
+    @Param({"1000000", "10000000"})
+    int size;
+
+    int[] input;
+
+    @Setup
+    public void setUp() {
+        input = BenchData.randomInts(size);
+    }
+
+    LinkedList buildLinkedList() {
+        LinkedList list = new LinkedList();
+        for (int value : input) {
+            list.append(value);
+        }
+        return list;
+    }
+
+    DoublyLinkedList buildDoublyLinkedList() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        for (int value : input) {
+            list.append(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public int[] copy() {
+        return input.clone();
+    }
+
+    @Benchmark
+    public int[] quickSort() {
+        int[] nums = input.clone();
+        Main.quickSort(nums, 0, nums.length - 1);
+        return nums;
+    }
+
+    @Benchmark
+    public LinkedList linkedListBuild() {
+        return buildLinkedList();
+    }
+
+    @Benchmark
+    public LinkedList linkedListRadixSort() {
+        LinkedList list = buildLinkedList();
+        list.radixSort();
+        return list;
+    }
+
+    @Benchmark
+    public DoublyLinkedList doublyLinkedListBuild() {
+        return buildDoublyLinkedList();
+    }
+
+    @Benchmark
+    public DoublyLinkedList doublyLinkedListRadixSort() {
+        DoublyLinkedList list = buildDoublyLinkedList();
+        list.radixSort();
+        return list;
+    }
+}
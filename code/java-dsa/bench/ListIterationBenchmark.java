@@ -0,0 +1,108 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ddl.DoublyLinkedList;
+import linkedList.IntArrayList;
+import linkedList.LinkedList;
+import linkedList.Node;
+import linkedList.UnrolledLinkedList;
+
+// memory per element and full-walk speed of every list:
+// - build*: gc.alloc.rate.norm / size is the bytes allocated per element (for the linked
+//   lists all of it stays live; IntArrayList also counts the arrays dropped while growing)
+// - sum*: one pass over all values. The lists are built by appends in setup, so their nodes
+//   sit next to each other on the heap; a list built by scattered inserts walks slower
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListIterationBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    LinkedList linked;
+    DoublyLinkedList doubly;
+    UnrolledLinkedList unrolled;
+    IntArrayList array;
+    long total;
+
+    @Setup
+    public void setUp() {
+        linked = BenchData.linkedList(size);
+        doubly = BenchData.doublyLinkedList(size);
+        unrolled = (UnrolledLinkedList) BenchData.intList("unrolled", size);
+        array = (IntArrayList) BenchData.intList("array", size);
+    }
+
+    @Benchmark
+    public LinkedList buildLinkedList() {
+        return BenchData.linkedList(size);
+    }
+
+    @Benchmark
+    public DoublyLinkedList buildDoublyLinkedList() {
+        return BenchData.doublyLinkedList(size);
+    }
+
+    @Benchmark
+    public Object buildUnrolledLinkedList() {
+        return BenchData.intList("unrolled", size);
+    }
+
+    @Benchmark
+    public Object buildIntArrayList() {
+        return BenchData.intList("array", size);
+    }
+
+    @Benchmark
+    public long sumLinkedList() {
+        long sum = 0;
+        for (Node temp = linked.get(0); temp != null; temp = temp.next) {
+            sum += temp.value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumDoublyLinkedList() {
+        long sum = 0;
+        DoublyLinkedList.Cursor cursor = doubly.cursor();
+        while (cursor.isValid()) {
+            sum += cursor.value();
+            cursor.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumUnrolledLinkedList() {
+        total = 0;
+        unrolled.forEach(value -> total += value);
+        return total;
+    }
+
+    @Benchmark
+    public long sumIntArrayList() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += array.getValue(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,96 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ddl.DoublyLinkedList;
+import linkedList.LinkedList;
+import linkedList.Main;
+
+// the in-place merge sort() of LinkedList and DoublyLinkedList against the old way of
+// sorting a list: copy the values out, quickSort the array and build a new list from it.
+// Sorting is destructive, so each call builds its list first: subtract the matching *Build
+// result to get the cost of the sort alone
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListSortBenchmark {
+
+    @Param({"100000", "1000000"})
+    int size;
+
+    int[] input;
+
+    @Setup
+    public void setUp() {
+        input = BenchData.randomInts(size);
+    }
+
+    static LinkedList buildLinkedList(int[] values) {
+        LinkedList list = new LinkedList();
+        for (int value : values) {
+            list.append(value);
+        }
+        return list;
+    }
+
+    static DoublyLinkedList buildDoublyLinkedList(int[] values) {
+        DoublyLinkedList list = new DoublyLinkedList();
+        for (int value : values) {
+            list.append(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LinkedList linkedListBuild() {
+        return buildLinkedList(input);
+    }
+
+    @Benchmark
+    public LinkedList linkedListSort() {
+        LinkedList list = buildLinkedList(input);
+        list.sort();
+        return list;
+    }
+
+    @Benchmark
+    public LinkedList linkedListCopySortRebuild() {
+        int[] values = buildLinkedList(input).toArray();
+        Main.quickSort(values, 0, values.length - 1);
+        return buildLinkedList(values);
+    }
+
+    @Benchmark
+    public DoublyLinkedList doublyLinkedListBuild() {
+        return buildDoublyLinkedList(input);
+    }
+
+    @Benchmark
+    public DoublyLinkedList doublyLinkedListSort() {
+        DoublyLinkedList list = buildDoublyLinkedList(input);
+        list.sort();
+        return list;
+    }
+
+    @Benchmark
+    public DoublyLinkedList doublyLinkedListCopySortRebuild() {
+        int[] values = buildDoublyLinkedList(input).toArray();
+        Main.quickSort(values, 0, values.length - 1);
+        return buildDoublyLinkedList(values);
+    }
+}
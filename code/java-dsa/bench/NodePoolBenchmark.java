@@ -0,0 +1,116 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import StackNQueue.Queue;
+import StackNQueue.Stack;
+import ddl.DoublyLinkedList;
+import linkedList.LinkedList;
+
+// node churn with and without a NodePool: every call adds BURST values to a structure that
+// already holds `size` values and removes them again through the value-returning removals
+// (removeFirstValue, popValue, dequeueValue). SampleTime gives the latency percentiles of a
+// burst (p99 includes the young collections the allocations trigger); gc.alloc.rate.norm
+// shows the bytes allocated per burst, about BURST * node size without the pool and 0 with it
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class NodePoolBenchmark {
+
+    static final int BURST = 64;
+
+    @Param({"false", "true"})
+    boolean pooled;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    LinkedList linked;
+    DoublyLinkedList doubly;
+    Stack stack;
+    Queue queue;
+
+    @Setup
+    public void setUp() {
+        linked = new LinkedList();
+        doubly = new DoublyLinkedList();
+        stack = new Stack(0);
+        queue = new Queue(0);
+        if (pooled) {
+            linked.enableNodePool(BURST);
+            doubly.enableNodePool(BURST);
+            stack.enableNodePool(BURST);
+            queue.enableNodePool(BURST);
+        }
+        for (int i = 0; i < size; i++) {
+            linked.append(i);
+            doubly.append(i);
+            stack.push(i);
+            queue.enqueue(i);
+        }
+    }
+
+    // queue order: the burst goes in at the tail, the oldest values leave from the head
+    @Benchmark
+    public long linkedList() {
+        long sum = 0;
+        for (int i = 0; i < BURST; i++) {
+            linked.append(i);
+        }
+        for (int i = 0; i < BURST; i++) {
+            sum += linked.removeFirstValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long doublyLinkedList() {
+        long sum = 0;
+        for (int i = 0; i < BURST; i++) {
+            doubly.append(i);
+        }
+        for (int i = 0; i < BURST; i++) {
+            sum += doubly.removeFirstValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long stack() {
+        long sum = 0;
+        for (int i = 0; i < BURST; i++) {
+            stack.push(i);
+        }
+        for (int i = 0; i < BURST; i++) {
+            sum += stack.popValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long queue() {
+        long sum = 0;
+        for (int i = 0; i < BURST; i++) {
+            queue.enqueue(i);
+        }
+        for (int i = 0; i < BURST; i++) {
+            sum += queue.dequeueValue();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,115 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkedList.LinkedList;
+import linkedList.Node;
+import offHeap.OffHeapLinkedList;
+
+// LinkedList (impl=heap) vs OffHeapLinkedList (impl=offHeap) at sizes where the heap list
+// dominates the heap:
+// - build: gc.alloc.rate.norm / size is the heap bytes per element (the off-heap list only
+//   allocates its wrapper; its native bytes are 8 per node plus free capacity, see byteSize)
+// - fullGc: one System.gc() while the list is live, i.e. a full-GC pause that has to mark
+//   every Node of the heap list
+// - sum: one walk over all values
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules", "jdk.incubator.foreign"})
+public class OffHeapListBenchmark {
+
+    @Param({"heap", "offHeap"})
+    String impl;
+
+    @Param({"10000000", "100000000"})
+    int size;
+
+    static LinkedList heapList(int size) {
+        LinkedList list = new LinkedList();
+        for (int i = 0; i < size; i++) {
+            list.append(i);
+        }
+        return list;
+    }
+
+    static OffHeapLinkedList offHeapList(int size) {
+        OffHeapLinkedList list = new OffHeapLinkedList();
+        for (int i = 0; i < size; i++) {
+            list.append(i);
+        }
+        return list;
+    }
+
+    // a list kept alive for the whole trial; only the benchmarks that take it build it
+    @State(Scope.Thread)
+    public static class Live {
+        LinkedList heap;
+        OffHeapLinkedList offHeap;
+
+        @Setup
+        public void setUp(OffHeapListBenchmark benchmark) {
+            if (benchmark.impl.equals("heap")) {
+                heap = heapList(benchmark.size);
+            } else {
+                offHeap = offHeapList(benchmark.size);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            if (offHeap != null) {
+                offHeap.close();
+            }
+        }
+    }
+
+    // the off-heap list is closed again so the native memory does not pile up
+    @Benchmark
+    public int build() {
+        if (impl.equals("heap")) {
+            return heapList(size).getLength();
+        }
+        try (OffHeapLinkedList list = offHeapList(size)) {
+            return list.getLength();
+        }
+    }
+
+    @Benchmark
+    public Object fullGc(Live live) {
+        System.gc();
+        return live.heap != null ? live.heap : live.offHeap;
+    }
+
+    @Benchmark
+    public long sum(Live live) {
+        long sum = 0;
+        if (live.heap != null) {
+            for (Node temp = live.heap.get(0); temp != null; temp = temp.next) {
+                sum += temp.value;
+            }
+        } else {
+            OffHeapLinkedList list = live.offHeap;
+            for (int node = list.head(); node != OffHeapLinkedList.NIL; node = list.next(node)) {
+                sum += list.value(node);
+            }
+        }
+        return sum;
+    }
+}
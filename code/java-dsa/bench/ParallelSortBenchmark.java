@@ -0,0 +1,82 @@
+package bench;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sort.IntSort;
+import sort.ParallelIntSort;
+
+// sort.ParallelIntSort against Arrays.parallelSort on random input, swept over the number
+// of workers (-p parallelism=1,2,...,N for more cores). Arrays.parallelSort runs inside the
+// sorter's pool so both get the same workers; `sequential` is the one-thread baseline and
+// every call sorts a fresh clone, so subtract `copy` to get the cost of the sort alone
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ParallelSortBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    int size;
+
+    @Param({"1", "2", "4", "8"})
+    int parallelism;
+
+    @Param({"8192"})
+    int threshold;
+
+    int[] input;
+    ParallelIntSort sorter;
+
+    @Setup
+    public void setUp() {
+        input = BenchData.randomInts(size);
+        sorter = new ParallelIntSort(parallelism, threshold);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sorter.close();
+    }
+
+    @Benchmark
+    public int[] copy() {
+        return input.clone();
+    }
+
+    @Benchmark
+    public int[] sequential() {
+        int[] nums = input.clone();
+        IntSort.sort(nums);
+        return nums;
+    }
+
+    @Benchmark
+    public int[] parallelSort() {
+        int[] nums = input.clone();
+        sorter.sort(nums);
+        return nums;
+    }
+
+    @Benchmark
+    public int[] arraysParallelSort() {
+        int[] nums = input.clone();
+        sorter.execute(() -> Arrays.parallelSort(nums));
+        return nums;
+    }
+}
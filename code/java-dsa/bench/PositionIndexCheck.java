@@ -0,0 +1,114 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import linkedList.LinkedList;
+
+// sanity check for the positional index of an indexed LinkedList (linkedList.PositionIndex):
+// 1. prepend-heavy: `size` prepends onto a list whose index is already built, then random
+//    gets, which must stay near the cost of a short walk (not a walk of half the list)
+// 2. random prepend / insert / remove / removeFirst / append against a java.util.ArrayList,
+//    comparing every get
+//   java -cp target/benchmarks.jar bench.PositionIndexCheck [size]
+public class PositionIndexCheck {
+    static final int GETS = 2000;
+    // a get walks under 2 * STRIDE nodes; a walk into the middle of size nodes is far slower
+    static final long MAX_NANOS_PER_GET = 20_000;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        boolean ok = checkPrepends(size);
+        ok &= checkAgainstArrayList(size / 4);
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+    static boolean checkPrepends(int size) {
+        LinkedList list = new LinkedList(false, true);
+        // build the index on a one-node list, so every prepend goes through it
+        list.prepend(0);
+        list.get(0);
+        for (int i = 1; i < size; i++) {
+            list.prepend(i);
+        }
+        Random random = new Random(BenchData.SEED);
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < GETS; i++) {
+                int index = random.nextInt(size);
+                // the first value prepended (0) is now last
+                if (list.getValue(index) != size - 1 - index) {
+                    System.out.println("prepends: wrong value at " + index);
+                    return false;
+                }
+            }
+            best = Math.min(best, (System.nanoTime() - start) / GETS);
+        }
+        boolean fast = best <= MAX_NANOS_PER_GET;
+        System.out.println("prepends: " + size + " prepends, get " + best + " ns"
+                + (fast ? "" : " (too slow: the index is not splitting segment 0)"));
+        return fast;
+    }
+
+    static boolean checkAgainstArrayList(int ops) {
+        LinkedList list = new LinkedList(false, true);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(BenchData.SEED);
+        for (int op = 0; op < ops; op++) {
+            int value = random.nextInt();
+            int size = expected.size();
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    list.prepend(value);
+                    expected.add(0, value);
+                    break;
+                case 2: {
+                    int index = random.nextInt(size + 1);
+                    list.insert(index, value);
+                    expected.add(index, value);
+                    break;
+                }
+                case 3:
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        list.remove(index);
+                        expected.remove(index);
+                    }
+                    break;
+                case 4:
+                    if (size > 0) {
+                        list.removeFirst();
+                        expected.remove(0);
+                    }
+                    break;
+                default:
+                    list.append(value);
+                    expected.add(value);
+            }
+            if (list.getLength() != expected.size()) {
+                System.out.println("mixed: wrong length after " + (op + 1) + " ops");
+                return false;
+            }
+            if (expected.size() > 0) {
+                int index = random.nextInt(expected.size());
+                if (list.getValue(index) != expected.get(index)) {
+                    System.out.println("mixed: wrong value at " + index + " after " + (op + 1) + " ops");
+                    return false;
+                }
+            }
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            if (list.getValue(i) != expected.get(i)) {
+                System.out.println("mixed: wrong value at " + i + " at the end");
+                return false;
+            }
+        }
+        System.out.println("mixed: " + ops + " ops match ArrayList");
+        return true;
+    }
+}
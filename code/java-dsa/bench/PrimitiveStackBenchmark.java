@@ -0,0 +1,82 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import StackNQueue.CharStack2;
+import StackNQueue.IntStack2;
+import StackNQueue.Stack2;
+
+// steady-state push/pop at a depth of `size`: gc.alloc.rate.norm is the garbage per pair.
+// The pushed values are outside the Integer/Character caches, so the boxed Stack2 pays a
+// fresh box on every push while IntStack2/CharStack2 should report ~0 B/op
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PrimitiveStackBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    Stack2<Integer> boxedInts;
+    IntStack2 ints;
+    Stack2<Character> boxedChars;
+    CharStack2 chars;
+    int cursor;
+
+    @Setup
+    public void setUp() {
+        boxedInts = new Stack2<>();
+        ints = new IntStack2();
+        boxedChars = new Stack2<>();
+        chars = new CharStack2();
+        for (int i = 0; i < size; i++) {
+            boxedInts.push(i);
+            ints.push(i);
+            boxedChars.push((char) i);
+            chars.push((char) i);
+        }
+    }
+
+    int nextValue() {
+        return 1_000 + (cursor++ & 0xFFF);
+    }
+
+    @Benchmark
+    public Integer stack2Integer() {
+        boxedInts.push(nextValue());
+        return boxedInts.pop();
+    }
+
+    @Benchmark
+    public int intStack2() {
+        ints.push(nextValue());
+        return ints.pop();
+    }
+
+    @Benchmark
+    public Character stack2Character() {
+        boxedChars.push((char) nextValue());
+        return boxedChars.pop();
+    }
+
+    @Benchmark
+    public char charStack2() {
+        chars.push((char) nextValue());
+        return chars.pop();
+    }
+}
@@ -0,0 +1,57 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import StackNQueue.CharStack2;
+import text.TextReverser;
+
+// the old dev.reverseString (push every char, then result += pop()) against TextReverser;
+// the old one copies the whole result on every char, so the sizes stop at 64K chars
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class QuadraticReverseBenchmark {
+
+    @Param({"1024", "16384", "65536"})
+    int size;
+
+    String text;
+
+    @Setup
+    public void setUp() {
+        text = BenchData.text(size);
+    }
+
+    @Benchmark
+    public String stackConcat() {
+        CharStack2 stack = new CharStack2(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            stack.push(text.charAt(i));
+        }
+        String reversed = "";
+        while (!stack.isEmpty()) {
+            reversed += stack.pop();
+        }
+        return reversed;
+    }
+
+    @Benchmark
+    public String textReverser() {
+        return TextReverser.reverse(text);
+    }
+}
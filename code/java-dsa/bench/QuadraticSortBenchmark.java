@@ -0,0 +1,59 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkedList.Main;
+
+// the O(n^2) sorts in linkedList.Main on random input; the size range stops at 1e5
+// because a single bubble sort of 1e6 ints already takes minutes
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class QuadraticSortBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int size;
+
+    int[] input;
+
+    @Setup
+    public void setUp() {
+        input = BenchData.randomInts(size);
+    }
+
+    @Benchmark
+    public int[] bubbleSort() {
+        int[] nums = input.clone();
+        Main.bubbleSort(nums);
+        return nums;
+    }
+
+    @Benchmark
+    public int[] selectionSort() {
+        int[] nums = input.clone();
+        Main.selectionSort(nums);
+        return nums;
+    }
+
+    @Benchmark
+    public int[] insertionSort() {
+        int[] nums = input.clone();
+        Main.insertionSort(nums);
+        return nums;
+    }
+}
@@ -0,0 +1,89 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import StackNQueue.IntStack2;
+import StackNQueue.Stack2;
+import StackNQueue.dev;
+
+// the old dev.sortStack (pop each value into a second stack, moving every larger value back
+// first) against the current one, on random input including the fill; the old one moves about
+// n^2/4 values, so the sizes stop at 1e5
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class QuadraticSortStackBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int size;
+
+    int[] input;
+
+    @Setup
+    public void setUp() {
+        input = BenchData.randomInts(size);
+    }
+
+    @Benchmark
+    public IntStack2 twoStackIntStack2() {
+        IntStack2 inputStack = SortStackBenchmark.intStack2(input);
+        IntStack2 tempStack = new IntStack2(inputStack.size());
+        while (!inputStack.isEmpty()) {
+            int temp = inputStack.pop();
+            while (!tempStack.isEmpty() && tempStack.peek() > temp) {
+                inputStack.push(tempStack.pop());
+            }
+            tempStack.push(temp);
+        }
+        while (!tempStack.isEmpty()) {
+            inputStack.push(tempStack.pop());
+        }
+        return inputStack;
+    }
+
+    @Benchmark
+    public Stack2<Integer> twoStackStack2() {
+        Stack2<Integer> inputStack = SortStackBenchmark.stack2(input);
+        IntStack2 tempStack = new IntStack2(inputStack.size());
+        while (!inputStack.isEmpty()) {
+            int temp = inputStack.pop();
+            while (!tempStack.isEmpty() && tempStack.peek() > temp) {
+                inputStack.push(tempStack.pop());
+            }
+            tempStack.push(temp);
+        }
+        while (!tempStack.isEmpty()) {
+            inputStack.push(tempStack.pop());
+        }
+        return inputStack;
+    }
+
+    @Benchmark
+    public IntStack2 intStack2() {
+        IntStack2 stack = SortStackBenchmark.intStack2(input);
+        dev.sortStack(stack);
+        return stack;
+    }
+
+    @Benchmark
+    public Stack2<Integer> stack2() {
+        Stack2<Integer> stack = SortStackBenchmark.stack2(input);
+        dev.sortStack(stack);
+        return stack;
+    }
+}
@@ -0,0 +1,85 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import StackNQueue.Queue2;
+
+// StackNQueue.Queue2 (inbox/outbox stacks): enqueueDequeue runs at a depth of `size`,
+// fillDrain enqueues and dequeues `size` values one at a time, fillDrainBatch does the
+// same through enqueueAll/dequeueBatch (rounded up to whole batches)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class Queue2Benchmark {
+
+    static final int BATCH = 1024;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    Queue2 queue;
+    int[] batch;
+
+    @Setup
+    public void setUp() {
+        queue = new Queue2();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(i);
+        }
+        // move the prefill into the outbox now, so the first measured dequeue isn't a 1e7 move
+        queue.peek();
+        batch = new int[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            batch[i] = i;
+        }
+    }
+
+    @Benchmark
+    public Integer enqueueDequeue() {
+        queue.enqueue(size);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public int fillDrain() {
+        Queue2 fresh = new Queue2();
+        for (int i = 0; i < size; i++) {
+            fresh.enqueue(i);
+        }
+        int sum = 0;
+        while (!fresh.isEmpty()) {
+            sum += fresh.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int fillDrainBatch() {
+        Queue2 fresh = new Queue2();
+        for (int i = 0; i < size; i += BATCH) {
+            fresh.enqueueAll(batch);
+        }
+        int sum = 0;
+        while (!fresh.isEmpty()) {
+            for (int value : fresh.dequeueBatch(BATCH)) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,62 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import StackNQueue.Node;
+import StackNQueue.Queue;
+
+// StackNQueue.Queue: enqueueDequeue runs at a depth of `size`, fillDrain enqueues and dequeues `size` values
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class QueueBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    Queue queue;
+
+    @Setup
+    public void setUp() {
+        queue = new Queue(0);
+        for (int i = 1; i < size; i++) {
+            queue.enqueue(i);
+        }
+    }
+
+    @Benchmark
+    public Node enqueueDequeue() {
+        queue.enqueue(size);
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public int fillDrain() {
+        Queue fresh = new Queue(0);
+        for (int i = 1; i < size; i++) {
+            fresh.enqueue(i);
+        }
+        int sum = 0;
+        Node node = fresh.dequeue();
+        while (node != null) {
+            sum += node.value;
+            node = fresh.dequeue();
+        }
+        return sum;
+    }
+}
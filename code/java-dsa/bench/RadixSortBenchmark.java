@@ -0,0 +1,58 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkedList.Main;
+import sort.IntRadixSort;
+
+// sort.IntRadixSort against linkedList.Main.quickSort (introsort) on random int[] keys;
+// every call sorts a fresh clone, so subtract `copy` to get the cost of the sort alone
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RadixSortBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    int size;
+
+    int[] input;
+
+    @Setup
+    public void setUp() {
+        input = BenchData.randomInts(size);
+    }
+
+    @Benchmark
+    public int[] copy() {
+        return input.clone();
+    }
+
+    @Benchmark
+    public int[] quickSort() {
+        int[] nums = input.clone();
+        Main.quickSort(nums, 0, nums.length - 1);
+        return nums;
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        int[] nums = input.clone();
+        IntRadixSort.sort(nums);
+        return nums;
+    }
+}
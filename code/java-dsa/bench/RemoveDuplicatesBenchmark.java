@@ -0,0 +1,115 @@
+package bench;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ddl.DoublyLinkedList;
+import linkedList.IntArrayList;
+import linkedList.LinkedList;
+
+// removeDuplicates on LinkedList, DoublyLinkedList and IntArrayList. Values are drawn
+// from [0, size) so about a third of them are duplicates; "sorted" takes the no-memory
+// adjacent path, "random" the hash path (sizes above 32) or the runner scan (16).
+// removeDuplicates is destructive, so each call builds its list first: subtract the
+// matching *Build result to get the cost of removeDuplicates alone
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RemoveDuplicatesBenchmark {
+
+    @Param({"random", "sorted"})
+    String input;
+
+    @Param({"16", "1000", "100000", "1000000"})
+    int size;
+
+    int[] values;
+
+    @Setup
+    public void generate() {
+        Random random = new Random(BenchData.SEED);
+        values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(size);
+        }
+        if (input.equals("sorted")) {
+            Arrays.sort(values);
+        }
+    }
+
+    LinkedList buildLinkedList() {
+        LinkedList list = new LinkedList();
+        for (int value : values) {
+            list.append(value);
+        }
+        return list;
+    }
+
+    DoublyLinkedList buildDoublyLinkedList() {
+        DoublyLinkedList list = new DoublyLinkedList();
+        for (int value : values) {
+            list.append(value);
+        }
+        return list;
+    }
+
+    IntArrayList buildIntArrayList() {
+        IntArrayList list = IntArrayList.withCapacity(size);
+        for (int value : values) {
+            list.append(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LinkedList linkedListBuild() {
+        return buildLinkedList();
+    }
+
+    @Benchmark
+    public LinkedList linkedList() {
+        LinkedList list = buildLinkedList();
+        list.removeDuplicates();
+        return list;
+    }
+
+    @Benchmark
+    public DoublyLinkedList doublyLinkedListBuild() {
+        return buildDoublyLinkedList();
+    }
+
+    @Benchmark
+    public DoublyLinkedList doublyLinkedList() {
+        DoublyLinkedList list = buildDoublyLinkedList();
+        list.removeDuplicates();
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList intArrayListBuild() {
+        return buildIntArrayList();
+    }
+
+    @Benchmark
+    public IntArrayList intArrayList() {
+        IntArrayList list = buildIntArrayList();
+        list.removeDuplicates();
+        return list;
+    }
+}
@@ -0,0 +1,57 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkedList.LinkedList;
+
+// drains a whole LinkedList with removeLast: O(n^2) without back links, O(n) with them.
+// one shot per list; without back links the 1e6 case runs for many minutes, trim it
+// with -p size=... when only the comparison at smaller sizes is needed
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Timeout(time = 1, timeUnit = TimeUnit.HOURS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RemoveLastBenchmark {
+
+    @Param({"false", "true"})
+    boolean backLinks;
+
+    @Param({"10000", "100000", "1000000"})
+    int size;
+
+    LinkedList list;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        list = new LinkedList(backLinks);
+        for (int i = 0; i < size; i++) {
+            list.append(i);
+        }
+    }
+
+    @Benchmark
+    public int drainFromTail() {
+        int sum = 0;
+        while (list.getLength() > 0) {
+            sum += list.removeLast().value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,68 @@
+package bench;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import text.TextReverser;
+
+// text.TextReverser on 1K to 100M chars of mixed text (see BenchData.text):
+// - charArray: in place on the same array every call
+// - string: String in, String out (what dev.reverseString now does)
+// - stringBuilder: the JDK's StringBuilder.reverse, for reference
+// - stream: Reader to Writer with the default memory limit, so the 100M input goes through
+//   the temp-file path. The old stack-and-concatenate version is in QuadraticReverseBenchmark
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ReverseStringBenchmark {
+
+    @Param({"1024", "1048576", "104857600"})
+    int size;
+
+    String text;
+    char[] chars;
+
+    @Setup
+    public void setUp() {
+        text = BenchData.text(size);
+        chars = text.toCharArray();
+    }
+
+    @Benchmark
+    public char[] charArray() {
+        TextReverser.reverse(chars);
+        return chars;
+    }
+
+    @Benchmark
+    public String string() {
+        return TextReverser.reverse(text);
+    }
+
+    @Benchmark
+    public String stringBuilder() {
+        return new StringBuilder(text).reverse().toString();
+    }
+
+    @Benchmark
+    public long stream() throws IOException {
+        return TextReverser.reverse(new StringReader(text), Writer.nullWriter());
+    }
+}
@@ -0,0 +1,106 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import StackNQueue.IntRingQueue;
+import StackNQueue.Node;
+import StackNQueue.Queue;
+import StackNQueue.SpscIntRingQueue;
+
+// per-call latency histograms (SampleTime reports p50/p90/p99/p99.9/p99.99 and max):
+// - queue / ring: one thread, enqueue+dequeue on Queue vs offer+poll on IntRingQueue
+// - spsc / locked: one producer and one consumer thread on SpscIntRingQueue vs an
+//   IntRingQueue behind a lock; a full/empty queue answers false/EMPTY right away
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RingQueueLatencyBenchmark {
+
+    static final int CAPACITY = 1024;
+
+    @State(Scope.Thread)
+    public static class SingleThread {
+        Queue queue;
+        IntRingQueue ring;
+
+        @Setup
+        public void setUp() {
+            queue = new Queue(0);
+            ring = new IntRingQueue(CAPACITY);
+            ring.offer(0);
+            for (int i = 1; i < CAPACITY / 2; i++) {
+                queue.enqueue(i);
+                ring.offer(i);
+            }
+        }
+    }
+
+    @State(Scope.Group)
+    public static class Spsc {
+        final SpscIntRingQueue ring = new SpscIntRingQueue(CAPACITY);
+    }
+
+    @State(Scope.Group)
+    public static class Locked {
+        final IntRingQueue ring = new IntRingQueue(CAPACITY);
+    }
+
+    @Benchmark
+    public Node queue(SingleThread state) {
+        state.queue.enqueue(42);
+        return state.queue.dequeue();
+    }
+
+    @Benchmark
+    public int ring(SingleThread state) {
+        state.ring.offer(42);
+        return state.ring.poll();
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public boolean spscOffer(Spsc state) {
+        return state.ring.offer(42);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public int spscPoll(Spsc state) {
+        return state.ring.poll();
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public boolean lockedOffer(Locked state) {
+        synchronized (state.ring) {
+            return state.ring.offer(42);
+        }
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public int lockedPoll(Locked state) {
+        synchronized (state.ring) {
+            return state.ring.poll();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package bench;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkedList.Search;
+import search.EytzingerIndex;
+import search.SortedArrays;
+
+// every lookup mode of search.SortedArrays and search.EytzingerIndex (plus the original
+// linkedList.Search and Arrays.binarySearch) for random present keys. Sizes run from 4 KB of
+// ints (L1) to 400 MB (far past the LLC); the keys are 0, 2, 4 ... so they are uniform, the
+// best case for interpolation search. 64K different targets keep the big arrays from being
+// served out of cache by a few hot search paths. The long[], Integer[] and Eytzinger copies
+// are only built for the benchmarks that use them
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SearchBenchmark {
+
+    static final int TARGET_COUNT = 1 << 16;
+    static final int TARGET_MASK = TARGET_COUNT - 1;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    int size;
+
+    int[] nums;
+    int[] targets;
+    int cursor;
+    Search search;
+
+    @Setup
+    public void setUp() {
+        nums = BenchData.sortedInts(size);
+        int[] indices = BenchData.randomIndices(0, size, TARGET_COUNT);
+        targets = new int[TARGET_COUNT];
+        for (int i = 0; i < TARGET_COUNT; i++) {
+            targets[i] = nums[indices[i]];
+        }
+        search = new Search(nums, 0);
+    }
+
+    @State(Scope.Thread)
+    public static class LongArray {
+        long[] nums;
+
+        @Setup
+        public void setUp(SearchBenchmark benchmark) {
+            nums = Arrays.stream(benchmark.nums).asLongStream().toArray();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ComparableArray {
+        Integer[] nums;
+        Integer[] targets;
+
+        @Setup
+        public void setUp(SearchBenchmark benchmark) {
+            nums = Arrays.stream(benchmark.nums).boxed().toArray(Integer[]::new);
+            // boxed once up front, so the lookups do not allocate
+            targets = Arrays.stream(benchmark.targets).boxed().toArray(Integer[]::new);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Eytzinger {
+        EytzingerIndex index;
+
+        @Setup
+        public void setUp(SearchBenchmark benchmark) {
+            index = new EytzingerIndex(benchmark.nums);
+        }
+    }
+
+    int nextTarget() {
+        return targets[cursor++ & TARGET_MASK];
+    }
+
+    @Benchmark
+    public int binarySearch() {
+        search.setTarget(nextTarget());
+        return search.binarySearch();
+    }
+
+    @Benchmark
+    public int arraysBinarySearch() {
+        return Arrays.binarySearch(nums, nextTarget());
+    }
+
+    @Benchmark
+    public int lowerBound() {
+        return SortedArrays.lowerBound(nums, nextTarget());
+    }
+
+    @Benchmark
+    public int branchlessLowerBound() {
+        return SortedArrays.branchlessLowerBound(nums, nextTarget());
+    }
+
+    @Benchmark
+    public int interpolationSearch() {
+        return SortedArrays.interpolationSearch(nums, nextTarget());
+    }
+
+    @Benchmark
+    public int eytzingerLowerBound(Eytzinger state) {
+        return state.index.lowerBound(nextTarget());
+    }
+
+    @Benchmark
+    public int longLowerBound(LongArray state) {
+        return SortedArrays.lowerBound(state.nums, nextTarget());
+    }
+
+    @Benchmark
+    public int longBranchlessLowerBound(LongArray state) {
+        return SortedArrays.branchlessLowerBound(state.nums, nextTarget());
+    }
+
+    @Benchmark
+    public int comparableLowerBound(ComparableArray state) {
+        return SortedArrays.lowerBound(state.nums, state.targets[cursor++ & TARGET_MASK]);
+    }
+}
@@ -0,0 +1,62 @@
+package bench;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkedList.Main;
+
+// linkedList.Main.quickSort (now sort.IntSort's introsort) against Arrays.sort on random,
+// sorted, reversed and few-unique input; every call sorts a fresh clone, so subtract `copy`
+// to get the cost of the sort alone
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SortBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"random", "sorted", "reversed", "fewUnique"})
+    String distribution;
+
+    int[] input;
+
+    @Setup
+    public void setUp() {
+        input = BenchData.ints(distribution, size);
+    }
+
+    @Benchmark
+    public int[] copy() {
+        return input.clone();
+    }
+
+    @Benchmark
+    public int[] quickSort() {
+        int[] nums = input.clone();
+        Main.quickSort(nums, 0, nums.length - 1);
+        return nums;
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        int[] nums = input.clone();
+        Arrays.sort(nums);
+        return nums;
+    }
+}
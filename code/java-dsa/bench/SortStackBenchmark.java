@@ -0,0 +1,83 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import StackNQueue.IntStack2;
+import StackNQueue.Stack2;
+import StackNQueue.dev;
+
+// dev.sortStack on `size` random values, 1e3 to 1e6. Every call pushes the input onto a new
+// stack first; fill* measure just that, to subtract:
+// - intStack2: drain to int[], IntSort, push back
+// - stack2: Stack2<Integer>, sorting its backing list in place
+// The old two-stack insertion sort is in QuadraticSortStackBenchmark
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SortStackBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int size;
+
+    int[] input;
+
+    @Setup
+    public void setUp() {
+        input = BenchData.randomInts(size);
+    }
+
+    static IntStack2 intStack2(int[] values) {
+        IntStack2 stack = new IntStack2(values.length);
+        for (int value : values) {
+            stack.push(value);
+        }
+        return stack;
+    }
+
+    static Stack2<Integer> stack2(int[] values) {
+        Stack2<Integer> stack = new Stack2<>();
+        for (int value : values) {
+            stack.push(value);
+        }
+        return stack;
+    }
+
+    @Benchmark
+    public IntStack2 fillIntStack2() {
+        return intStack2(input);
+    }
+
+    @Benchmark
+    public IntStack2 intStack2() {
+        IntStack2 stack = intStack2(input);
+        dev.sortStack(stack);
+        return stack;
+    }
+
+    @Benchmark
+    public Stack2<Integer> fillStack2() {
+        return stack2(input);
+    }
+
+    @Benchmark
+    public Stack2<Integer> stack2() {
+        Stack2<Integer> stack = stack2(input);
+        dev.sortStack(stack);
+        return stack;
+    }
+}
@@ -0,0 +1,60 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import StackNQueue.Node;
+import StackNQueue.Stack;
+
+// StackNQueue.Stack: pushPop runs at a depth of `size`, fillDrain pushes and pops `size` values
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StackBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    Stack stack;
+
+    @Setup
+    public void setUp() {
+        stack = new Stack(0);
+        for (int i = 1; i < size; i++) {
+            stack.push(i);
+        }
+    }
+
+    @Benchmark
+    public Node pushPop() {
+        stack.push(size);
+        return stack.pop();
+    }
+
+    @Benchmark
+    public int fillDrain() {
+        Stack fresh = new Stack(0);
+        for (int i = 1; i < size; i++) {
+            fresh.push(i);
+        }
+        int sum = 0;
+        while (!fresh.isEmpty()) {
+            sum += fresh.pop().value;
+        }
+        return sum;
+    }
+}
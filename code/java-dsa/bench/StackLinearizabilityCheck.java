@@ -0,0 +1,202 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import StackNQueue.LockFreeStack;
+import StackNQueue.Node;
+
+// stress check for StackNQueue.LockFreeStack, with and without elimination:
+// 1. many short concurrent histories are recorded and each one is searched for a legal
+//    sequential order (Wing & Gong): every operation must take effect somewhere between its
+//    call and its return, and that order must behave like a plain stack
+// 2. a long run where every pushed value must come out exactly once (popped or left over)
+//   java -cp target/benchmarks.jar bench.StackLinearizabilityCheck [rounds]
+public class StackLinearizabilityCheck {
+    static final int THREADS = 4;
+    static final int OPS_PER_THREAD = 5;
+    static final int EMPTY = Integer.MIN_VALUE;
+
+    static final class Op {
+        final boolean push;
+        int value;
+        long invoked;
+        long returned;
+
+        Op(boolean push, int value) {
+            this.push = push;
+            this.value = value;
+        }
+
+        public String toString() {
+            return (push ? "push(" + value + ")" : "pop() -> " + (value == EMPTY ? "null" : value))
+                    + " [" + invoked + ", " + returned + "]";
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        boolean ok = true;
+        for (boolean elimination : new boolean[] {false, true}) {
+            ok &= checkHistories(elimination, rounds);
+            ok &= checkConservation(elimination);
+        }
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+    static boolean checkHistories(boolean elimination, int rounds) throws InterruptedException {
+        for (int round = 0; round < rounds; round++) {
+            List<Op> history = record(new LockFreeStack(elimination));
+            if (!linearizable(history)) {
+                System.out.println("elimination=" + elimination + ": NOT linearizable");
+                history.forEach(System.out::println);
+                return false;
+            }
+        }
+        System.out.println("elimination=" + elimination + ": " + rounds + " histories linearizable");
+        return true;
+    }
+
+    // runs THREADS threads of OPS_PER_THREAD random push/pop calls, stamping each call and
+    // return with a shared logical clock so real-time order can be compared across threads
+    static List<Op> record(LockFreeStack stack) throws InterruptedException {
+        AtomicLong clock = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Op> history = new ArrayList<>();
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            Op[] ops = new Op[OPS_PER_THREAD];
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                boolean push = ThreadLocalRandom.current().nextBoolean();
+                ops[i] = new Op(push, push ? t * OPS_PER_THREAD + i + 1 : EMPTY);
+                history.add(ops[i]);
+            }
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (Op op : ops) {
+                    op.invoked = clock.getAndIncrement();
+                    if (op.push) {
+                        stack.push(op.value);
+                    } else {
+                        Node node = stack.pop();
+                        op.value = node == null ? EMPTY : node.value;
+                    }
+                    op.returned = clock.getAndIncrement();
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return history;
+    }
+
+    static boolean linearizable(List<Op> history) {
+        Op[] ops = history.toArray(new Op[0]);
+        return search(ops, 0, new int[ops.length], 0, new HashSet<>());
+    }
+
+    // depth-first search over the ops that may go next: not done yet, and no other pending op
+    // returned before this one was called
+    static boolean search(Op[] ops, int done, int[] stack, int depth, Set<String> visited) {
+        if (done == (1 << ops.length) - 1) {
+            return true;
+        }
+        if (!visited.add(done + ":" + Arrays.toString(Arrays.copyOf(stack, depth)))) {
+            return false;
+        }
+        for (int i = 0; i < ops.length; i++) {
+            if ((done & (1 << i)) != 0 || !minimal(ops, done, i)) {
+                continue;
+            }
+            Op op = ops[i];
+            if (op.push) {
+                stack[depth] = op.value;
+                if (search(ops, done | (1 << i), stack, depth + 1, visited)) {
+                    return true;
+                }
+            } else if (op.value == EMPTY) {
+                if (depth == 0 && search(ops, done | (1 << i), stack, depth, visited)) {
+                    return true;
+                }
+            } else if (depth > 0 && stack[depth - 1] == op.value) {
+                if (search(ops, done | (1 << i), stack, depth - 1, visited)) {
+                    stack[depth - 1] = op.value;
+                    return true;
+                }
+                stack[depth - 1] = op.value;
+            }
+        }
+        return false;
+    }
+
+    static boolean minimal(Op[] ops, int done, int candidate) {
+        for (int j = 0; j < ops.length; j++) {
+            if (j != candidate && (done & (1 << j)) == 0 && ops[j].returned < ops[candidate].invoked) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // every thread pushes its own range of values and pops about as often; afterwards each
+    // value must have been seen exactly once, popped or drained, and the height must agree
+    static boolean checkConservation(boolean elimination) throws InterruptedException {
+        int threadCount = Math.max(THREADS, Runtime.getRuntime().availableProcessors());
+        int perThread = 200_000;
+        LockFreeStack stack = new LockFreeStack(elimination);
+        AtomicIntegerArray seen = new AtomicIntegerArray(threadCount * perThread);
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            int base = t * perThread;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    stack.push(base + i);
+                    if (ThreadLocalRandom.current().nextInt(4) != 0) {
+                        Node node = stack.pop();
+                        if (node != null) {
+                            seen.incrementAndGet(node.value);
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        int left = stack.size();
+        Node node;
+        while ((node = stack.pop()) != null) {
+            seen.incrementAndGet(node.value);
+            left--;
+        }
+        for (int i = 0; i < seen.length(); i++) {
+            if (seen.get(i) != 1) {
+                System.out.println("elimination=" + elimination + ": value " + i + " seen " + seen.get(i) + " times");
+                return false;
+            }
+        }
+        if (left != 0 || stack.size() != 0) {
+            System.out.println("elimination=" + elimination + ": height off by " + left);
+            return false;
+        }
+        System.out.println("elimination=" + elimination + ": " + seen.length() + " values conserved");
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// runs the benchmarks matching args[0] once per thread count (1, 2, 4 ... 64 by default,
+// or the counts given after the pattern), since -t only takes a single value:
+//   java -cp target/benchmarks.jar bench.ThreadSweep ConcurrentQueueBenchmark 1 8 64
+public class ThreadSweep {
+    private static final int[] DEFAULT_THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    public static void main(String[] args) throws RunnerException {
+        if (args.length == 0) {
+            System.err.println("usage: ThreadSweep <benchmark regex> [thread counts...]");
+            return;
+        }
+        int[] threads = DEFAULT_THREADS;
+        if (args.length > 1) {
+            threads = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                threads[i - 1] = Integer.parseInt(args[i]);
+            }
+        }
+        for (int count : threads) {
+            Options options = new OptionsBuilder()
+                    .include(args[0])
+                    .threads(count)
+                    .addProfiler(GCProfiler.class)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -1,9 +1,26 @@
 package ddl;
 
+import java.util.NoSuchElementException;
+
+import sort.IntRadixSort;
+import util.IntHashSet;
+import util.NodePool;
+
 public class DoublyLinkedList {
     private Node head;
     private Node tail;
     private int length;
+    // "finger": the node get() returned last and its index, so the next get walks from
+    // there when that is closer than head or tail (sequential get(i), get(i + 1) is O(1));
+    // null when unknown
+    private Node finger;
+    private int fingerIndex;
+    // optional node recycling (see NodePool); null when off
+    private NodePool<Node> pool;
+
+    // up to this length removeDuplicates keeps the runner scan: it allocates nothing
+    // and beats hashing while the list is this short
+    static final int SMALL_DEDUP_LENGTH = 32;
 
     class Node {
         int value;
@@ -28,6 +45,33 @@ public class DoublyLinkedList {
     public DoublyLinkedList() {
     }
 
+    // recycle removed nodes through a pool of up to capacity nodes; only removals that return
+    // a value (removeFirstValue, removeLastValue, Cursor.remove) feed it, the ones that
+    // return the Node hand it to the caller
+    public void enableNodePool(int capacity) {
+        pool = new NodePool<>(capacity);
+    }
+
+    public NodePool<Node> getNodePool() {
+        return pool;
+    }
+
+    private Node newNode(int value) {
+        if (pool != null) {
+            Node node = pool.acquire();
+            if (node != null) {
+                node.value = value;
+                return node;
+            }
+        }
+        return new Node(value);
+    }
+
+    // node must already be unlinked with next and prev cleared
+    private void recycle(Node node) {
+        if (pool != null) pool.release(node);
+    }
+
     public Node getHead() {
         return head;
     }
@@ -49,7 +93,7 @@ public class DoublyLinkedList {
     }
 
     public void append(int value) {
-        Node newNode = new Node(value);
+        Node newNode = newNode(value);
         if (length == 0) {
             head = newNode;
             tail = newNode;
@@ -74,11 +118,12 @@ public class DoublyLinkedList {
             temp.prev = null;
         }
         length--;
+        fingerRemoved(temp, length);
         return temp;
     }
 
     public void prepend(int value) {
-        Node newNode = new Node(value);
+        Node newNode = newNode(value);
         if (length == 0) {
             head = newNode;
             tail = newNode;
@@ -88,6 +133,7 @@ public class DoublyLinkedList {
             head = newNode;
         }
         length++;
+        fingerInserted(0);
     }
 
     public Node removeFirst() {
@@ -103,28 +149,74 @@ public class DoublyLinkedList {
             temp.next = null;
         }
         length--;
+        fingerRemoved(temp, 0);
         return temp;
     }
 
+    public int removeFirstValue() {
+        Node node = removeFirst();
+        if (node == null) {
+            throw new NoSuchElementException("List is empty");
+        }
+        int value = node.value;
+        recycle(node);
+        return value;
+    }
+
+    public int removeLastValue() {
+        Node node = removeLast();
+        if (node == null) {
+            throw new NoSuchElementException("List is empty");
+        }
+        int value = node.value;
+        recycle(node);
+        return value;
+    }
+
     public Node get(int index) {
-        if (index < 0 || index > length) {
+        if (index < 0 || index >= length) {
             return null;
         }
+        // start from whichever of head, tail and the finger is closest
         Node temp = head;
-        if (index < length / 2) {
-            for (int i = 0; i < index; i++) {
-                temp = temp.next;
-            }
-        } else {
+        int at = 0;
+        if (index >= length / 2) {
             temp = tail;
-            for (int i = length - 1; i > index; i--) {
-                temp = temp.prev;
-            }
+            at = length - 1;
         }
-
+        if (finger != null && Math.abs(index - fingerIndex) < Math.abs(index - at)) {
+            temp = finger;
+            at = fingerIndex;
+        }
+        while (at < index) {
+            temp = temp.next;
+            at++;
+        }
+        while (at > index) {
+            temp = temp.prev;
+            at--;
+        }
+        finger = temp;
+        fingerIndex = index;
         return temp;
     }
 
+    // keep the finger on its node when a node is linked in at index
+    private void fingerInserted(int index) {
+        if (finger != null && fingerIndex >= index) {
+            fingerIndex++;
+        }
+    }
+
+    // keep the finger on its node when node (which was at index) is unlinked
+    private void fingerRemoved(Node node, int index) {
+        if (finger == node) {
+            finger = null;
+        } else if (finger != null && fingerIndex > index) {
+            fingerIndex--;
+        }
+    }
+
     public boolean set(int index, int value) {
         Node temp = get(index);
         if (temp != null) {
@@ -147,7 +239,7 @@ public class DoublyLinkedList {
             append(value);
             return true;
         }
-        Node newNode = new Node(value);
+        Node newNode = newNode(value);
         Node before = get(index - 1);
         Node after = before.next;
         newNode.prev = before;
@@ -163,10 +255,10 @@ public class DoublyLinkedList {
             return null;
         }
         if (index == 0) {
-            removeFirst();
+            return removeFirst();
         }
         if (index == length - 1) {
-            removeLast();
+            return removeLast();
         }
         Node temp = get(index);
         Node before = temp.prev;
@@ -177,6 +269,8 @@ public class DoublyLinkedList {
         before.next = after;
         after.prev = before;
         length--;
+        finger = before;
+        fingerIndex = index - 1;
         return temp;
     }
 
@@ -186,12 +280,14 @@ public class DoublyLinkedList {
             return null;
         }
         if (index == 0) {
-            removeFirst();
+            return removeFirst();
         }
         if (index == length - 1) {
-            removeLast();
+            return removeLast();
         }
         Node temp = get(index);
+        finger = temp.prev;
+        fingerIndex = index - 1;
         temp.next.prev = temp.prev;
         temp.prev.next = temp.next;
         temp.prev = null;
@@ -219,6 +315,7 @@ public class DoublyLinkedList {
     }
 
     public void reverse() {
+        finger = null;
         Node current = head;
         Node temp = null;
 
@@ -234,7 +331,88 @@ public class DoublyLinkedList {
         tail = temp;
     }
 
+    // O(n^2) runner scan for short lists, one pass for sorted (either direction) lists,
+    // and one pass with a primitive hash set of the values seen so far otherwise
+    public void removeDuplicates() {
+        finger = null;
+        if (length <= SMALL_DEDUP_LENGTH) {
+            removeDuplicatesByRunner();
+        } else if (isMonotonic()) {
+            removeAdjacentDuplicates();
+        } else {
+            removeDuplicatesByHash();
+        }
+    }
+
+    private void removeDuplicatesByRunner() {
+        Node current = head;
+        while (current != null && current.next != null) {
+            Node runner = current;
+            while (runner.next != null) {
+                if (current.value == runner.next.value) {
+                    unlinkAfter(runner);
+                } else {
+                    runner = runner.next;
+                }
+            }
+            current = current.next;
+        }
+    }
+
+    // sorted input keeps equal values next to each other: no extra memory needed
+    private void removeAdjacentDuplicates() {
+        Node current = head;
+        while (current != null && current.next != null) {
+            if (current.value == current.next.value) {
+                unlinkAfter(current);
+            } else {
+                current = current.next;
+            }
+        }
+    }
+
+    private void removeDuplicatesByHash() {
+        IntHashSet seen = new IntHashSet(length);
+        seen.add(head.value);
+        Node current = head;
+        while (current.next != null) {
+            if (seen.add(current.next.value)) {
+                current = current.next;
+            } else {
+                unlinkAfter(current);
+            }
+        }
+    }
+
+    private boolean isMonotonic() {
+        boolean ascending = true;
+        boolean descending = true;
+        Node current = head;
+        while (current.next != null && (ascending || descending)) {
+            int next = current.next.value;
+            ascending &= current.value <= next;
+            descending &= current.value >= next;
+            current = current.next;
+        }
+        return ascending || descending;
+    }
+
+    // unlinks before.next (which must exist), keeping tail and length right
+    private void unlinkAfter(Node before) {
+        Node temp = before.next;
+        before.next = temp.next;
+        if (temp.next == null) {
+            tail = before;
+        } else {
+            temp.next.prev = before;
+        }
+        temp.next = null;
+        temp.prev = null;
+        length--;
+    }
+
     public void partitionList(int x) {
+        finger = null;
         // If the list is empty, nothing to do
         if (head == null)
             return;
@@ -275,8 +453,9 @@ public class DoublyLinkedList {
             dummy2.next.prev = prev1;
         }
 
-        // Update head pointer of the main list
+        // Update head and tail pointers of the main list
         head = dummy1.next;
+        tail = dummy2.next != null ? prev2 : prev1;
 
         // Ensure new head has no previous pointer
         if (head != null) {
@@ -285,6 +464,7 @@ public class DoublyLinkedList {
     }
 
     public void swapPairs() {
+        finger = null;
         if (head == null || head.next == null) {
             return;
         }
@@ -314,9 +494,269 @@ public class DoublyLinkedList {
             prev = first; 
 
         }
+        // an odd node out stays last, otherwise the last swapped first is the tail
+        tail = head != null ? head : prev;
         head = dummyNode.next;
         if (head != null) head.prev = null;
 
     }
 
+    // bottom-up merge sort that relinks the existing nodes: sorted runs of 1, 2, 4 ... nodes
+    // are merged pairwise pass after pass, so there is no recursion and the only extra memory
+    // is one dummy node. Stable and O(n log n)
+    public void sort() {
+        finger = null;
+        if (length < 2) return;
+        Node dummy = new Node(0);
+        dummy.next = head;
+        Node last = dummy;
+        for (int width = 1; width < length; width *= 2) {
+            last = dummy;
+            Node current = dummy.next;
+            while (current != null) {
+                Node left = current;
+                Node right = split(left, width);
+                current = split(right, width);
+                last = merge(left, right, last);
+            }
+        }
+        head = dummy.next;
+        dummy.next = null;
+        // merge only linked next: rebuild prev (and tail) in one walk
+        Node before = null;
+        for (Node temp = head; temp != null; temp = temp.next) {
+            temp.prev = before;
+            before = temp;
+        }
+        tail = before;
+    }
+
+    // cuts the chain after count nodes and returns what follows (null if it was shorter)
+    private static Node split(Node start, int count) {
+        for (int i = 1; start != null && i < count; i++) {
+            start = start.next;
+        }
+        if (start == null) return null;
+        Node rest = start.next;
+        start.next = null;
+        return rest;
+    }
+
+    // merges two sorted chains behind last (left wins ties) and returns the new last node
+    private static Node merge(Node left, Node right, Node last) {
+        while (left != null && right != null) {
+            if (left.value <= right.value) {
+                last.next = left;
+                left = left.next;
+            } else {
+                last.next = right;
+                right = right.next;
+            }
+            last = last.next;
+        }
+        last.next = left != null ? left : right;
+        while (last.next != null) {
+            last = last.next;
+        }
+        return last;
+    }
+
+    // LSD radix sort (see sort.IntRadixSort) done by relinking: each pass deals the nodes
+    // into one chain per digit, in list order so the pass is stable, and splices the chains
+    // back together through next only; prev is rebuilt once after the last pass
+    public void radixSort() {
+        finger = null;
+        if (length < 2) return;
+        Node[] heads = new Node[IntRadixSort.BUCKETS];
+        Node[] tails = new Node[IntRadixSort.BUCKETS];
+        for (int shift = 0; shift < Integer.SIZE; shift += IntRadixSort.RADIX_BITS) {
+            for (Node temp = head; temp != null; temp = temp.next) {
+                int digit = IntRadixSort.digit(temp.value, shift);
+                if (heads[digit] == null) {
+                    heads[digit] = temp;
+                } else {
+                    tails[digit].next = temp;
+                }
+                tails[digit] = temp;
+            }
+            Node last = null;
+            for (int digit = 0; digit < IntRadixSort.BUCKETS; digit++) {
+                if (heads[digit] == null) continue;
+                if (last == null) {
+                    head = heads[digit];
+                } else {
+                    last.next = heads[digit];
+                }
+                last = tails[digit];
+                heads[digit] = null;
+                tails[digit] = null;
+            }
+            last.next = null;
+        }
+        Node before = null;
+        for (Node temp = head; temp != null; temp = temp.next) {
+            temp.prev = before;
+            before = temp;
+        }
+        tail = before;
+    }
+
+    public int[] toArray() {
+        int[] values = new int[length];
+        Node temp = head;
+        for (int i = 0; i < length; i++) {
+            values[i] = temp.value;
+            temp = temp.next;
+        }
+        return values;
+    }
+
+    // cursor on the node at index (see Cursor); index == length or an empty list gives a
+    // cursor that is past the end, from which prev() reaches the tail and insertBefore appends
+    public Cursor cursor(int index) {
+        if (index < 0 || index > length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        return new Cursor(get(index), index);
+    }
+
+    public Cursor cursor() {
+        return new Cursor(head, 0);
+    }
+
+    // a position in the list that moves and edits in O(1), instead of a get(index) walk per
+    // call. It sits on one node; remove() moves it to the following node, so a filtering loop is
+    //   while (c.isValid()) { if (drop(c.value())) c.remove(); else c.next(); }
+    // Off the ends it has no node, like a ListIterator between elements: past the end
+    // (index == length) prev() returns to the tail and insertBefore appends; before the start
+    // (index == -1) next() returns to the head and insertAfter prepends. value, set and remove
+    // need a node
+    // edits made through the list itself (or another cursor) while a cursor is in use leave
+    // the cursor's index stale
+    public class Cursor {
+        private Node node;
+        private int index;
+
+        private Cursor(Node node, int index) {
+            this.node = node;
+            this.index = index;
+        }
+
+        // false while the cursor is off either end (e.g. after removing the tail)
+        public boolean isValid() {
+            return node != null;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public int value() {
+            return current().value;
+        }
+
+        public void set(int value) {
+            current().value = value;
+        }
+
+        public boolean next() {
+            if (node == null && index >= 0) {
+                throw new NoSuchElementException("Cursor is past the end of the list");
+            }
+            node = node == null ? head : node.next;
+            index++;
+            return node != null;
+        }
+
+        public boolean prev() {
+            if (node == null && index < 0) {
+                throw new NoSuchElementException("Cursor is before the start of the list");
+            }
+            node = node == null ? tail : node.prev;
+            index--;
+            return node != null;
+        }
+
+        public void insertBefore(int value) {
+            if (node == null && index < 0) {
+                throw new NoSuchElementException("Cursor is before the start of the list");
+            }
+            // past the end the new node goes after the tail
+            Node after = node;
+            Node before = after == null ? tail : after.prev;
+            Node newNode = newNode(value);
+            newNode.prev = before;
+            newNode.next = after;
+            if (after == null) {
+                tail = newNode;
+            } else {
+                after.prev = newNode;
+            }
+            if (before == null) {
+                head = newNode;
+            } else {
+                before.next = newNode;
+            }
+            length++;
+            fingerInserted(index);
+            index++;
+        }
+
+        public void insertAfter(int value) {
+            if (node == null && index >= 0) {
+                throw new NoSuchElementException("Cursor is past the end of the list");
+            }
+            // before the start the new node goes before the head
+            Node before = node;
+            Node after = before == null ? head : before.next;
+            Node newNode = newNode(value);
+            newNode.prev = before;
+            newNode.next = after;
+            if (before == null) {
+                head = newNode;
+            } else {
+                before.next = newNode;
+            }
+            if (after == null) {
+                tail = newNode;
+            } else {
+                after.prev = newNode;
+            }
+            length++;
+            fingerInserted(index + 1);
+        }
+
+        // unlinks the current node and moves to the one after it; returns the removed value
+        public int remove() {
+            Node temp = current();
+            Node before = temp.prev;
+            Node after = temp.next;
+            if (before == null) {
+                head = after;
+            } else {
+                before.next = after;
+            }
+            if (after == null) {
+                tail = before;
+            } else {
+                after.prev = before;
+            }
+            temp.prev = null;
+            temp.next = null;
+            length--;
+            fingerRemoved(temp, index);
+            node = after;
+            int value = temp.value;
+            recycle(temp);
+            return value;
+        }
+
+        private Node current() {
+            if (node == null) {
+                throw new NoSuchElementException("Cursor is off the end of the list");
+            }
+            return node;
+        }
+    }
+
 }
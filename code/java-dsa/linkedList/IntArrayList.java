@@ -0,0 +1,266 @@
+package linkedList;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import util.IntHashSet;
+
+// array-backed alternative to LinkedList: values sit in one growable int[], so there is
+// no Node per value and get/set are a single array read instead of a walk from head.
+// insert/remove/prepend still shift the tail of the array (O(n) like LinkedList, but a
+// memmove instead of pointer chasing)
+public class IntArrayList implements IntList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values;
+    private int length;
+
+    public IntArrayList() {
+        values = new int[DEFAULT_CAPACITY];
+    }
+
+    // same as new LinkedList(value): a list holding one value
+    public IntArrayList(int value) {
+        this();
+        values[0] = value;
+        length = 1;
+    }
+
+    public static IntArrayList withCapacity(int capacity) {
+        IntArrayList list = new IntArrayList();
+        list.values = new int[Math.max(capacity, 1)];
+        return list;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public void printList() {
+        for (int i = 0; i < length; i++) {
+            System.out.println(values[i]);
+        }
+    }
+
+    // grow by half again, like ArrayList, so appends are amortized O(1)
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > values.length) {
+            int newCapacity = Math.max(minCapacity, values.length + (values.length >> 1));
+            values = Arrays.copyOf(values, newCapacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (length == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+    }
+
+    public void append(int value) {
+        ensureCapacity(length + 1);
+        values[length++] = value;
+    }
+
+    public void prepend(int value) {
+        ensureCapacity(length + 1);
+        System.arraycopy(values, 0, values, 1, length);
+        values[0] = value;
+        length++;
+    }
+
+    public int removeFirst() {
+        checkNotEmpty();
+        int value = values[0];
+        length--;
+        System.arraycopy(values, 1, values, 0, length);
+        return value;
+    }
+
+    public int removeLast() {
+        checkNotEmpty();
+        return values[--length];
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    public boolean set(int index, int value) {
+        if (index < 0 || index >= length) {
+            return false;
+        }
+        values[index] = value;
+        return true;
+    }
+
+    public boolean insert(int index, int value) {
+        if (index < 0 || index > length) {
+            return false;
+        }
+        ensureCapacity(length + 1);
+        System.arraycopy(values, index, values, index + 1, length - index);
+        values[index] = value;
+        length++;
+        return true;
+    }
+
+    public int remove(int index) {
+        checkIndex(index);
+        int value = values[index];
+        length--;
+        System.arraycopy(values, index + 1, values, index, length - index);
+        return value;
+    }
+
+    public void reverse() {
+        reverseRange(0, length - 1);
+    }
+
+    private void reverseRange(int from, int to) {
+        while (from < to) {
+            int temp = values[from];
+            values[from] = values[to];
+            values[to] = temp;
+            from++;
+            to--;
+        }
+    }
+
+    // same position the slow/fast pointers of LinkedList.findMiddleNode stop at
+    public int findMiddleNode() {
+        checkNotEmpty();
+        return values[length / 2];
+    }
+
+    public int findKthNodeFromEnd(int k) {
+        if (k < 1 || k > length) {
+            throw new IndexOutOfBoundsException("k: " + k + ", Length: " + length);
+        }
+        return values[length - k];
+    }
+
+    // same strategy as LinkedList.removeDuplicates: prefix scan for short lists, one
+    // pass for sorted lists, primitive hash set otherwise; compacts in place either way
+    public void removeDuplicates() {
+        if (length <= LinkedList.SMALL_DEDUP_LENGTH) {
+            removeDuplicatesByScan();
+        } else if (isMonotonic()) {
+            removeAdjacentDuplicates();
+        } else {
+            removeDuplicatesByHash();
+        }
+    }
+
+    // every value is checked against the unique prefix kept so far
+    private void removeDuplicatesByScan() {
+        int unique = 0;
+        for (int i = 0; i < length; i++) {
+            int value = values[i];
+            boolean seen = false;
+            for (int j = 0; j < unique; j++) {
+                if (values[j] == value) {
+                    seen = true;
+                    break;
+                }
+            }
+            if (!seen) {
+                values[unique++] = value;
+            }
+        }
+        length = unique;
+    }
+
+    // branch-free compaction: every value is written to the next free slot, and the slot
+    // only advances when the value differs from the last kept one
+    private void removeAdjacentDuplicates() {
+        int[] values = this.values;
+        int unique = 1;
+        for (int i = 1; i < length; i++) {
+            int value = values[i];
+            values[unique] = value;
+            unique += value != values[unique - 1] ? 1 : 0;
+        }
+        length = unique;
+    }
+
+    private void removeDuplicatesByHash() {
+        IntHashSet seen = new IntHashSet(length);
+        int unique = 0;
+        for (int i = 0; i < length; i++) {
+            if (seen.add(values[i])) {
+                values[unique++] = values[i];
+            }
+        }
+        length = unique;
+    }
+
+    private boolean isMonotonic() {
+        boolean ascending = true;
+        boolean descending = true;
+        for (int i = 1; i < length && (ascending || descending); i++) {
+            ascending &= values[i - 1] <= values[i];
+            descending &= values[i - 1] >= values[i];
+        }
+        return ascending || descending;
+    }
+
+    // stable: the values >= x are parked in a scratch array and copied back behind the others
+    public void partitionList(int x) {
+        int[] greaterOrEqual = new int[length];
+        int less = 0;
+        int other = 0;
+        for (int i = 0; i < length; i++) {
+            int value = values[i];
+            if (value < x) {
+                values[less++] = value;
+            } else {
+                greaterOrEqual[other++] = value;
+            }
+        }
+        System.arraycopy(greaterOrEqual, 0, values, less, other);
+    }
+
+    public void swapPairs() {
+        for (int i = 0; i + 1 < length; i += 2) {
+            int temp = values[i];
+            values[i] = values[i + 1];
+            values[i + 1] = temp;
+        }
+    }
+
+    public void reverseBetween(int startIndex, int endIndex) {
+        if (length == 0 || startIndex < 0 || endIndex >= length || startIndex >= endIndex) {
+            return;
+        }
+        reverseRange(startIndex, endIndex);
+    }
+
+    // IntList
+
+    public int getValue(int index) {
+        return get(index);
+    }
+
+    public int removeValue(int index) {
+        return remove(index);
+    }
+
+    public int middleValue() {
+        return findMiddleNode();
+    }
+
+    public int kthValueFromEnd(int k) {
+        return findKthNodeFromEnd(k);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, length);
+    }
+}
@@ -0,0 +1,43 @@
+package linkedList;
+
+// int list operations shared by LinkedList and IntArrayList, so callers can switch
+// between the node-based and the array-based implementation.
+// indexes are 0-based; the value accessors throw IndexOutOfBoundsException on a bad index
+// (or NoSuchElementException on an empty list) instead of returning a null Node
+public interface IntList {
+    int getLength();
+
+    void append(int value);
+
+    void prepend(int value);
+
+    int getValue(int index);
+
+    boolean set(int index, int value);
+
+    // index == getLength() appends
+    boolean insert(int index, int value);
+
+    int removeValue(int index);
+
+    void reverse();
+
+    // second of the two middles when the length is even
+    int middleValue();
+
+    // k = 1 is the last value
+    int kthValueFromEnd(int k);
+
+    // keeps the first occurrence of every value, in order
+    void removeDuplicates();
+
+    // values < x first, then values >= x, both in their original order
+    void partitionList(int x);
+
+    void swapPairs();
+
+    // reverses the values from startIndex to endIndex, both inclusive
+    void reverseBetween(int startIndex, int endIndex);
+
+    int[] toArray();
+}
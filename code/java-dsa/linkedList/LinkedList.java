@@ -1,8 +1,27 @@
 package linkedList;
-public class LinkedList {
+
+import java.util.NoSuchElementException;
+
+import sort.IntRadixSort;
+import util.IntHashSet;
+import util.NodePool;
+
+public class LinkedList implements IntList {
     private Node head;
     private Node tail;
     private int length;
+    // back-link mode: every node also keeps prev, so removeLast is O(1)
+    // instead of a walk from head to find the new tail
+    private final boolean backLinks;
+    // indexed mode: a PositionIndex of segment checkpoints makes get, and so set, insert and
+    // remove, O(log n) instead of a walk from head; null when the list is not indexed
+    private final PositionIndex positions;
+    // optional node recycling (see NodePool); null when off
+    private NodePool<Node> pool;
+
+    // up to this length removeDuplicates keeps the runner scan: it allocates nothing
+    // and beats hashing while the list is this short
+    static final int SMALL_DEDUP_LENGTH = 32;
 
     // constructor to create a new node
     public LinkedList(int value) {
@@ -10,34 +29,98 @@ public class LinkedList {
         head = newNode;
         tail = newNode;
         length = 1;
+        backLinks = false;
+        positions = null;
+    }
+
+    public LinkedList() {
+        this(false);
+    }
+
+    public LinkedList(boolean backLinks) {
+        this(backLinks, false);
+    }
+
+    public LinkedList(boolean backLinks, boolean indexed) {
+        this.backLinks = backLinks;
+        positions = indexed ? new PositionIndex() : null;
+    }
+
+    public boolean hasBackLinks() {
+        return backLinks;
+    }
+
+    public boolean isIndexed() {
+        return positions != null;
+    }
+
+    // recycle removed nodes through a pool of up to capacity nodes; only removals that return
+    // a value (removeValue, removeFirstValue, removeLastValue, removeDuplicates) feed it, the
+    // ones that return the Node hand it to the caller
+    public void enableNodePool(int capacity) {
+        pool = new NodePool<>(capacity);
+    }
+
+    public NodePool<Node> getNodePool() {
+        return pool;
+    }
+
+    private Node newNode(int value) {
+        if (pool != null) {
+            Node node = pool.acquire();
+            if (node != null) {
+                node.value = value;
+                return node;
+            }
+        }
+        return new Node(value);
+    }
+
+    // node must already be unlinked with next and prev cleared
+    private void recycle(Node node) {
+        if (pool != null) pool.release(node);
+    }
+
+    // called by every operation that relinks more than one node; the index is rebuilt on
+    // the next get
+    private void invalidateIndex() {
+        if (positions != null) positions.invalidate();
+    }
+
+    public int getLength() {
+        return length;
     }
 
     // creat ew node and add node to end
     public void append(int value) {
-        Node newNode = new Node(value);
+        Node newNode = newNode(value);
 
         if (length == 0) {
             head = newNode;
             tail = newNode;
         } else {
             tail.next = newNode;
+            if (backLinks) newNode.prev = tail;
             tail = newNode;
         }
         length++;
+        if (positions != null && positions.isValid()) positions.inserted(length - 1, newNode, length);
     }
 
     // create new node and add node to start
     public void prepend(int value) {
-        Node newNode = new Node(value);
+        Node newNode = newNode(value);
         if (length == 0) {
             head = newNode;
             tail = newNode;
         } else  {
             newNode.next = head;
+            if (backLinks) head.prev = newNode;
             head = newNode;
             
         }
         length++;
+        if (positions != null && positions.isValid()) positions.inserted(0, newNode, length);
     }
 
     public Node removeFirst() {
@@ -49,7 +132,10 @@ public class LinkedList {
         length--;
         if (length == 0) {
             tail = null;
+        } else if (backLinks) {
+            head.prev = null;
         }
+        if (positions != null && positions.isValid()) positions.removed(0, head);
         return temp;
 
     }
@@ -60,6 +146,18 @@ public class LinkedList {
         if (index < 0 || index >= length) {
             return null;
         }
+        if (positions != null) {
+            if (!positions.isValid()) positions.rebuild(head, length);
+            return positions.node(index);
+        }
+        // with back links, walk from whichever end is closer
+        if (backLinks && index > length / 2) {
+            Node temp = tail;
+            for (int i = length - 1; i > index; i--) {
+                temp = temp.prev;
+            }
+            return temp;
+        }
         Node temp = head;
         for (int i = 0; i < index; i++) {
             temp = temp.next;
@@ -70,7 +168,7 @@ public class LinkedList {
 
     // insert node at given index
     public boolean insert(int index, int value) {
-        if (index < 0 || index >= length) {
+        if (index < 0 || index > length) {
             return false;
         }
         if (index == 0) {
@@ -81,11 +179,16 @@ public class LinkedList {
             append(value);
             return true;
         }
-        Node newNode = new Node(value);
+        Node newNode = newNode(value);
         Node temp = get(index - 1);
         newNode.next = temp.next;
         temp.next = newNode;
+        if (backLinks) {
+            newNode.prev = temp;
+            newNode.next.prev = newNode;
+        }
         length++;
+        if (positions != null) positions.inserted(index, newNode, length);
         return true;
         
     }
@@ -100,8 +203,13 @@ public class LinkedList {
         Node prev = get(index - 1);
         Node temp = prev.next;
         prev.next = temp.next;
+        if (backLinks) {
+            temp.next.prev = prev;
+            temp.prev = null;
+        }
         temp.next = null;
         length--;
+        if (positions != null) positions.removed(index, prev.next);
         return temp;
     }
     public boolean set(int index, int value) {
@@ -116,6 +224,7 @@ public class LinkedList {
 
     public Node removeLast() {
         if (length == 0) return null;
+        if (backLinks) return removeLastByBackLink();
         
 
         Node temp = head;
@@ -131,10 +240,40 @@ public class LinkedList {
             head = null;
             tail = null;
         }
+        if (positions != null && positions.isValid()) positions.removed(length, null);
 
         return temp;
     }
 
+    // O(1): the new tail is tail.prev, no walk needed
+    private Node removeLastByBackLink() {
+        Node temp = tail;
+        tail = tail.prev;
+        temp.prev = null;
+        length--;
+        if (length == 0) {
+            head = null;
+        } else {
+            tail.next = null;
+        }
+        if (positions != null && positions.isValid()) positions.removed(length, null);
+        return temp;
+    }
+
+    // after the relinking algorithms (partition, swap, reverseBetween, ...) rebuild every
+    // prev link and the tail in one pass instead of threading prev through each of them
+    private void relinkBackLinks() {
+        if (!backLinks) return;
+        Node before = null;
+        Node temp = head;
+        while (temp != null) {
+            temp.prev = before;
+            before = temp;
+            temp = temp.next;
+        }
+        tail = before;
+    }
+
     public void printList() {
         Node temp = head;
         while (temp != null) {
@@ -143,6 +282,8 @@ public class LinkedList {
         }
     }
     public void reverse() {
+        if (length == 0) return;
+        invalidateIndex();
         // revser head and tail
         Node temp = head;
         head = tail;
@@ -154,6 +295,7 @@ public class LinkedList {
         for (int i = 0; i < length; i++){
             after = temp.next;
             temp.next = before;
+            if (backLinks) temp.prev = after;
             before = temp;
             temp = after;
         }
@@ -203,16 +345,27 @@ public class LinkedList {
         return slow;
     }
 
+    // O(n^2) runner scan for short lists, one pass for sorted (either direction) lists,
+    // and one pass with a primitive hash set of the values seen so far otherwise
     public void removeDuplicates() {
+        invalidateIndex();
+        if (length <= SMALL_DEDUP_LENGTH) {
+            removeDuplicatesByRunner();
+        } else if (isMonotonic()) {
+            removeAdjacentDuplicates();
+        } else {
+            removeDuplicatesByHash();
+        }
+    }
+
+    private void removeDuplicatesByRunner() {
         Node current = head; 
         Node runner = null;
         while (current != null && current.next != null) {
             runner = current;
             while (runner.next != null) {
                 if (current.value == runner.next.value) {
-                    runner.next = runner.next.next;
-
-                    length--;
+                    unlinkAfter(runner);
                 } else {
                     runner = runner.next;
                 }
@@ -220,6 +373,59 @@ public class LinkedList {
             current = current.next;
         }
     }
+
+    // sorted input keeps equal values next to each other: no extra memory needed
+    private void removeAdjacentDuplicates() {
+        Node current = head;
+        while (current != null && current.next != null) {
+            if (current.value == current.next.value) {
+                unlinkAfter(current);
+            } else {
+                current = current.next;
+            }
+        }
+    }
+
+    private void removeDuplicatesByHash() {
+        IntHashSet seen = new IntHashSet(length);
+        seen.add(head.value);
+        Node current = head;
+        while (current.next != null) {
+            if (seen.add(current.next.value)) {
+                current = current.next;
+            } else {
+                unlinkAfter(current);
+            }
+        }
+    }
+
+    private boolean isMonotonic() {
+        boolean ascending = true;
+        boolean descending = true;
+        Node current = head;
+        while (current.next != null && (ascending || descending)) {
+            int next = current.next.value;
+            ascending &= current.value <= next;
+            descending &= current.value >= next;
+            current = current.next;
+        }
+        return ascending || descending;
+    }
+
+    // unlinks before.next (which must exist), keeping tail, length and back links right
+    private void unlinkAfter(Node before) {
+        Node temp = before.next;
+        before.next = temp.next;
+        if (temp.next == null) {
+            tail = before;
+        } else if (backLinks) {
+            temp.next.prev = before;
+        }
+        temp.next = null;
+        temp.prev = null;
+        length--;
+        recycle(temp);
+    }
     
     public void getHead() {
         System.out.println("Head: " + head.value);
@@ -260,29 +466,37 @@ public class LinkedList {
         prev2.next=null;
         prev1.next  = dummy2.next; 
         head = dummy1.next;
+        tail = dummy2.next != null ? prev2 : prev1;
+        relinkBackLinks();
+        invalidateIndex();
         
     }
 
     public void reverseBetween(int startIndex, int endIndex) {
-        if (length == 0 ){
+        if (length == 0 || startIndex < 0 || endIndex >= length || startIndex >= endIndex){
             return;
         }
         Node dummyNode = new Node(0);
         dummyNode.next = head;
         Node prev = dummyNode;
-        Node current = null;
 
-        for (int i = 0; i <= startIndex; i++) {
+        // prev stops right before startIndex
+        for (int i = 0; i < startIndex; i++) {
             prev = prev.next;
-            current = prev.next;
-            for (int j = 0; j < endIndex -startIndex; j++) {
-                Node nodeToMove = current.next;
-                current.next = nodeToMove.next;
-                nodeToMove.next = prev.next;
-                prev.next = nodeToMove;
-            }
+        }
+        Node current = prev.next;
+        for (int j = 0; j < endIndex -startIndex; j++) {
+            Node nodeToMove = current.next;
+            current.next = nodeToMove.next;
+            nodeToMove.next = prev.next;
+            prev.next = nodeToMove;
         }
         head = dummyNode.next;
+        if (current.next == null) {
+            tail = current;
+        }
+        relinkBackLinks();
+        invalidateIndex();
 
     }
 
@@ -308,7 +522,160 @@ public class LinkedList {
             first = first.next;
         }
         head = dummyNode.next;
+        tail = first != null ? first : prev;
+        relinkBackLinks();
+        invalidateIndex();
+
+    }
+
+    // bottom-up merge sort that relinks the existing nodes: sorted runs of 1, 2, 4 ... nodes
+    // are merged pairwise pass after pass, so there is no recursion and the only extra memory
+    // is one dummy node. Stable and O(n log n)
+    public void sort() {
+        if (length < 2) return;
+        Node dummy = new Node(0);
+        dummy.next = head;
+        Node last = dummy;
+        for (int width = 1; width < length; width *= 2) {
+            last = dummy;
+            Node current = dummy.next;
+            while (current != null) {
+                Node left = current;
+                Node right = split(left, width);
+                current = split(right, width);
+                last = merge(left, right, last);
+            }
+        }
+        head = dummy.next;
+        dummy.next = null;
+        tail = last;
+        relinkBackLinks();
+        invalidateIndex();
+    }
+
+    // cuts the chain after count nodes and returns what follows (null if it was shorter)
+    private static Node split(Node start, int count) {
+        for (int i = 1; start != null && i < count; i++) {
+            start = start.next;
+        }
+        if (start == null) return null;
+        Node rest = start.next;
+        start.next = null;
+        return rest;
+    }
+
+    // merges two sorted chains behind last (left wins ties) and returns the new last node
+    private static Node merge(Node left, Node right, Node last) {
+        while (left != null && right != null) {
+            if (left.value <= right.value) {
+                last.next = left;
+                left = left.next;
+            } else {
+                last.next = right;
+                right = right.next;
+            }
+            last = last.next;
+        }
+        last.next = left != null ? left : right;
+        while (last.next != null) {
+            last = last.next;
+        }
+        return last;
+    }
+
+    // LSD radix sort (see sort.IntRadixSort) done by relinking: each pass deals the nodes
+    // into one chain per digit, in list order so the pass is stable, and splices the chains
+    // back together. No value is copied and no node is allocated
+    public void radixSort() {
+        if (length < 2) return;
+        Node[] heads = new Node[IntRadixSort.BUCKETS];
+        Node[] tails = new Node[IntRadixSort.BUCKETS];
+        for (int shift = 0; shift < Integer.SIZE; shift += IntRadixSort.RADIX_BITS) {
+            for (Node temp = head; temp != null; temp = temp.next) {
+                int digit = IntRadixSort.digit(temp.value, shift);
+                if (heads[digit] == null) {
+                    heads[digit] = temp;
+                } else {
+                    tails[digit].next = temp;
+                }
+                tails[digit] = temp;
+            }
+            Node last = null;
+            for (int digit = 0; digit < IntRadixSort.BUCKETS; digit++) {
+                if (heads[digit] == null) continue;
+                if (last == null) {
+                    head = heads[digit];
+                } else {
+                    last.next = heads[digit];
+                }
+                last = tails[digit];
+                heads[digit] = null;
+                tails[digit] = null;
+            }
+            last.next = null;
+            tail = last;
+        }
+        relinkBackLinks();
+        invalidateIndex();
+    }
 
+    // IntList: value-based access for callers that may also run on IntArrayList
+
+    public int getValue(int index) {
+        Node node = get(index);
+        if (node == null) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        return node.value;
+    }
+
+    public int removeValue(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        Node node = remove(index);
+        int value = node.value;
+        recycle(node);
+        return value;
+    }
+
+    public int removeFirstValue() {
+        if (length == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return removeValue(0);
+    }
+
+    public int removeLastValue() {
+        if (length == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return removeValue(length - 1);
+    }
+
+    public int middleValue() {
+        if (length == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return findMiddleNode().value;
+    }
+
+    public int kthValueFromEnd(int k) {
+        Node node = findKthNodeFromEnd(k);
+        if (node == null) {
+            throw new IndexOutOfBoundsException("k: " + k + ", Length: " + length);
+        }
+        return node.value;
+    }
+
+    public int[] toArray() {
+        int[] values = new int[length];
+        Node temp = head;
+        for (int i = 0; i < length; i++) {
+            values[i] = temp.value;
+            temp = temp.next;
+        }
+        return values;
     }
 }
 
@@ -1,26 +1,19 @@
 package linkedList;
+
+import sort.IntSort;
+
 public class Main {
     public static void main(String[] args) {
         
 
         int nums[] = {5, 3,  8, 6, 2};
-        int size = nums.length;
         System.out.println("Before sorting:");
         for (int num : nums) {
             System.out.print(num + " ");
         }   
         
         // bubble sort
-        for (int i = 0; i < size - 1; i++) {
-            for (int j = 0; j < size - i - 1; j++) {
-                if (nums[j] > nums[j + 1]) {
-                    // swap
-                    int temp = nums[j];
-                    nums[j] = nums[j + 1];
-                    nums[j + 1] = temp;
-                }
-            }
-        }
+        bubbleSort(nums);
         System.out.println("\nAfter bubble sorting:");
         for (int num : nums) {
             System.out.print(num + " ");
@@ -30,18 +23,7 @@ public class Main {
         int nums2[] = {5, 3,  8, 6, 2};
 
         // selection sort
-        for (int i = 0; i < size - 1; i++) {
-            int minIndex = i;
-            for (int j = i + 1; j < size; j++) {
-                if (nums2[j] < nums2[minIndex]) {
-                    minIndex = j;
-                }
-            }
-            // swap
-            int temp = nums2[i];
-            nums2[i] = nums2[minIndex];
-            nums2[minIndex] = temp;
-        }
+        selectionSort(nums2);
         System.out.println("\nAfter selection sorting:");
         for (int num : nums2) {
             System.out.print(num + " ");
@@ -55,15 +37,7 @@ public class Main {
         for (int num : nums3) {
             System.out.print(num + " ");
         }
-        for (int i = 1; i < size; i++) {
-            int key = nums3[i];
-            int j = i - 1;
-            while (j >= 0 && nums3[j] > key) {
-                nums3[j + 1] = nums3[j];
-                j--;
-            }
-            nums3[j + 1] = key;
-        }
+        insertionSort(nums3);
 
         System.out.println("\nAfter insertion sorting:");
         for (int num : nums3) {
@@ -85,15 +59,58 @@ public class Main {
             System.out.print(num + " ");
         }
     }
-    public static void quickSort (int[] arr, int low, int high) {
-        
-        if (low < high) {
-            int pi = partition(arr, low, high);
 
-            quickSort(arr, low, pi - 1);
-            quickSort(arr, pi + 1, high);
+    public static void bubbleSort(int[] nums) {
+        int size = nums.length;
+        for (int i = 0; i < size - 1; i++) {
+            for (int j = 0; j < size - i - 1; j++) {
+                if (nums[j] > nums[j + 1]) {
+                    // swap
+                    int temp = nums[j];
+                    nums[j] = nums[j + 1];
+                    nums[j + 1] = temp;
+                }
+            }
+        }
+    }
+
+    public static void selectionSort(int[] nums) {
+        int size = nums.length;
+        for (int i = 0; i < size - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < size; j++) {
+                if (nums[j] < nums[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            // swap
+            int temp = nums[i];
+            nums[i] = nums[minIndex];
+            nums[minIndex] = temp;
         }
     }
+
+    // insertion sort => O(n^2)
+    public static void insertionSort(int[] nums) {
+        int size = nums.length;
+        for (int i = 1; i < size; i++) {
+            int key = nums[i];
+            int j = i - 1;
+            while (j >= 0 && nums[j] > key) {
+                nums[j + 1] = nums[j];
+                j--;
+            }
+            nums[j + 1] = key;
+        }
+    }
+
+    // sorts arr[low..high] with sort.IntSort (introsort): recursing on the Lomuto partition below went
+    // quadratic on sorted or all-equal input and overflowed the stack around 1e5 elements
+    public static void quickSort (int[] arr, int low, int high) {
+        IntSort.sort(arr, low, high);
+    }
+
+    // textbook Lomuto partition with arr[high] as pivot, kept for reference
     public static int partition(int[] arr, int low, int high) {
         int pivot = arr[high];
         int i = (low - 1);
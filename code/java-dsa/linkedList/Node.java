@@ -2,6 +2,8 @@ package linkedList;
 public class Node {
     public int value;
     public Node next;
+    // only kept up to date by a LinkedList created with backLinks = true
+    public Node prev;
     public Node(int value) {
         this.value = value;
         this.next = null;
@@ -0,0 +1,212 @@
+package linkedList;
+
+import java.util.Arrays;
+
+// positional index of an indexed LinkedList: the list is cut into segments of about STRIDE
+// nodes, and the first node and length of each segment are kept. A Fenwick tree over the
+// lengths finds the segment holding an index in O(log n), and the walk inside it is shorter
+// than 2 * STRIDE. Inserts and removes adjust one length in O(log n); a segment that grows
+// past 2 * STRIDE is split, which shifts the arrays but happens at most once per STRIDE
+// inserts. Emptied segments stay in place with length 0 (the lookup skips them) until they
+// are half of all segments, so removeFirst in a queue-like loop does not shift the arrays
+// every STRIDE calls. Operations that relink the whole list (reverse, partition,
+// swapPairs, ...) only invalidate the index, and the next lookup rebuilds it in one walk
+final class PositionIndex {
+    static final int STRIDE = 64;
+
+    private Node[] firsts = new Node[16];
+    private int[] lengths = new int[16];
+    // 1-based Fenwick tree over lengths
+    private int[] tree = new int[17];
+    private int count;
+    // segments with length 0
+    private int empty;
+    private boolean valid;
+    // position inside the segment found by the last locate()
+    private int offset;
+
+    boolean isValid() {
+        return valid;
+    }
+
+    void invalidate() {
+        valid = false;
+    }
+
+    void rebuild(Node head, int length) {
+        Arrays.fill(firsts, 0, count, null);
+        count = 0;
+        empty = 0;
+        Node temp = head;
+        for (int start = 0; start < length; start += STRIDE) {
+            int segmentLength = Math.min(STRIDE, length - start);
+            ensureCapacity(count + 1);
+            firsts[count] = temp;
+            lengths[count] = segmentLength;
+            count++;
+            for (int i = 0; i < segmentLength; i++) {
+                temp = temp.next;
+            }
+        }
+        buildTree();
+        valid = true;
+    }
+
+    Node node(int index) {
+        int segment = locate(index);
+        Node temp = firsts[segment];
+        for (int i = 0; i < offset; i++) {
+            temp = temp.next;
+        }
+        return temp;
+    }
+
+    // node now sits at index; the list (length = listLength) is already linked
+    void inserted(int index, Node node, int listLength) {
+        if (count == 0) {
+            appendSegment(node);
+            return;
+        }
+        if (index == 0) {
+            // prepends grow (or revive) segment 0 and split it like any other
+            if (lengths[0] == 0) {
+                empty--;
+            }
+            firsts[0] = node;
+            grow(0, 1);
+            if (lengths[0] > 2 * STRIDE) {
+                split(0);
+            }
+            return;
+        }
+        boolean append = index == listLength - 1 && lengths[count - 1] > 0;
+        int segment = append ? count - 1 : locate(index - 1);
+        // appends start a new segment instead of splitting the last one
+        if (append && lengths[segment] >= STRIDE) {
+            appendSegment(node);
+            return;
+        }
+        grow(segment, 1);
+        if (lengths[segment] > 2 * STRIDE) {
+            split(segment);
+        }
+    }
+
+    // the node at index was unlinked, next took its place (null if it was the last node)
+    void removed(int index, Node next) {
+        int segment = locate(index);
+        if (lengths[segment] == 1) {
+            firsts[segment] = null;
+            grow(segment, -1);
+            if (++empty > count / 2) {
+                compact();
+            }
+            return;
+        }
+        if (offset == 0) {
+            firsts[segment] = next;
+        }
+        grow(segment, -1);
+    }
+
+    // segment holding index (the last one starting at or before it, so never an empty one);
+    // leaves the position inside it in offset
+    private int locate(int index) {
+        int segment = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(count); step > 0; step >>= 1) {
+            int next = segment + step;
+            if (next <= count && tree[next] <= remaining) {
+                segment = next;
+                remaining -= tree[next];
+            }
+        }
+        offset = remaining;
+        return segment;
+    }
+
+    private void grow(int segment, int delta) {
+        lengths[segment] += delta;
+        for (int i = segment + 1; i <= count; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int prefix(int segments) {
+        int sum = 0;
+        for (int i = segments; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private void appendSegment(Node node) {
+        if (!ensureCapacity(count + 1)) {
+            firsts[count] = node;
+            lengths[count] = 1;
+            count++;
+            // the new tree slot covers (count - lowbit(count), count]
+            tree[count] = 1 + prefix(count - 1) - prefix(count - (count & -count));
+            return;
+        }
+        firsts[count] = node;
+        lengths[count] = 1;
+        count++;
+        buildTree();
+    }
+
+    private void split(int segment) {
+        ensureCapacity(count + 1);
+        int half = lengths[segment] / 2;
+        Node temp = firsts[segment];
+        for (int i = 0; i < half; i++) {
+            temp = temp.next;
+        }
+        System.arraycopy(firsts, segment + 1, firsts, segment + 2, count - segment - 1);
+        System.arraycopy(lengths, segment + 1, lengths, segment + 2, count - segment - 1);
+        firsts[segment + 1] = temp;
+        lengths[segment + 1] = lengths[segment] - half;
+        lengths[segment] = half;
+        count++;
+        buildTree();
+    }
+
+    private void compact() {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (lengths[i] > 0) {
+                firsts[kept] = firsts[i];
+                lengths[kept] = lengths[i];
+                kept++;
+            }
+        }
+        Arrays.fill(firsts, kept, count, null);
+        count = kept;
+        empty = 0;
+        buildTree();
+    }
+
+    // true when the arrays had to grow (the tree then needs a full build)
+    private boolean ensureCapacity(int segments) {
+        if (segments <= firsts.length) {
+            return false;
+        }
+        int capacity = Math.max(segments, firsts.length * 2);
+        firsts = Arrays.copyOf(firsts, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+        tree = new int[capacity + 1];
+        return true;
+    }
+
+    private void buildTree() {
+        for (int i = 1; i <= count; i++) {
+            tree[i] = lengths[i - 1];
+        }
+        for (int i = 1; i <= count; i++) {
+            int parent = i + (i & -i);
+            if (parent <= count) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
@@ -1,34 +1,40 @@
 package linkedList;
 
+import search.LinearSearch;
+import search.SortedArrays;
+
+// binary and linear search for one target; the lower/upper bound, branchless, interpolation,
+// Eytzinger and bulk variants (and long[] / Comparable[] arrays) are in the search package
 public class Search {
     private int nums[] = {5, 7, 9,12, 15, 18, 20, 25, 30, 35};
     private int target = 15;
+
+    public Search() {
+    }
+
+    // search any sorted array instead of the built-in sample
+    public Search(int[] nums, int target) {
+        this.nums = nums;
+        this.target = target;
+    }
+
+    public void setTarget(int target) {
+        this.target = target;
+    }
+
     public int binarySearch() {
-        int left = 0;
-        int right = nums.length - 1;
-
-        while (left <= right) {
-            int mid = left + (right - left) / 2;
-
-            if (nums[mid] == target) {
-                return mid;
-            }
-            if (nums[mid] < target) {
-                left = mid + 1;
-            } else {
-                right = mid - 1;
-            }
-            
-        }
-
-        return -1;
+        return SortedArrays.binarySearch(nums, target);
+    }
+
+    // every target in one call: result[i] is the index of the first element equal to
+    // targets[i], or -1. With duplicates this can differ from binarySearch, which returns
+    // whichever equal element it lands on
+    public int[] searchAll(int[] targets) {
+        return SortedArrays.searchAll(nums, targets);
+    }
+
+    // index of the first element equal to target, or -1 (SIMD when the Vector API is available)
+    public int linearSearch() {
+        return LinearSearch.indexOf(nums, target);
     }
-    public void linearSearch() {
-        for (int i = 0; i < nums.length; i++) {
-            if (nums[i] == target) {
-                System.out.println("Target found at index: " + i);
-                return;
-            }
-        }
-    } 
 }
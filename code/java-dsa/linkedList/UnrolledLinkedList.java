@@ -0,0 +1,435 @@
+package linkedList;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+import util.IntHashSet;
+
+// unrolled linked list: every node (Chunk) holds up to CAPACITY values in an int[] plus a
+// count, so the object header and links are paid once per chunk instead of once per value
+// (about 4.5 bytes per value when chunks are full, against 24 for a LinkedList Node), and a
+// walk reads values sequentially out of each array. A chunk that overflows on insert is
+// split in half; one that drops under half full after a remove is merged into a neighbour
+// when the two fit in one chunk. Lookups by index skip whole chunks
+public class UnrolledLinkedList implements IntList {
+    static final int CAPACITY = 64;
+
+    private static final class Chunk {
+        final int[] values = new int[CAPACITY];
+        int count;
+        Chunk next;
+        Chunk prev;
+    }
+
+    private Chunk head;
+    private Chunk tail;
+    private int length;
+
+    // filled in by locate(): the chunk holding an index and the slot inside it
+    private Chunk foundChunk;
+    private int foundSlot;
+
+    public UnrolledLinkedList() {
+    }
+
+    public UnrolledLinkedList(int value) {
+        append(value);
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public void printList() {
+        forEach(System.out::println);
+    }
+
+    // every value from head to tail
+    public void forEach(IntConsumer action) {
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] values = chunk.values;
+            for (int i = 0; i < chunk.count; i++) {
+                action.accept(values[i]);
+            }
+        }
+    }
+
+    public void append(int value) {
+        if (tail == null || tail.count == CAPACITY) {
+            linkAfter(tail, new Chunk());
+        }
+        tail.values[tail.count++] = value;
+        length++;
+    }
+
+    public void prepend(int value) {
+        if (head == null || head.count == CAPACITY) {
+            linkAfter(null, new Chunk());
+        }
+        System.arraycopy(head.values, 0, head.values, 1, head.count);
+        head.values[0] = value;
+        head.count++;
+        length++;
+    }
+
+    public int removeFirst() {
+        checkNotEmpty();
+        return removeValue(0);
+    }
+
+    public int removeLast() {
+        checkNotEmpty();
+        return removeValue(length - 1);
+    }
+
+    public int getValue(int index) {
+        checkIndex(index);
+        locate(index);
+        return foundChunk.values[foundSlot];
+    }
+
+    public boolean set(int index, int value) {
+        if (index < 0 || index >= length) {
+            return false;
+        }
+        locate(index);
+        foundChunk.values[foundSlot] = value;
+        return true;
+    }
+
+    public boolean insert(int index, int value) {
+        if (index < 0 || index > length) {
+            return false;
+        }
+        if (index == length) {
+            append(value);
+            return true;
+        }
+        locate(index);
+        Chunk chunk = foundChunk;
+        int slot = foundSlot;
+        if (chunk.count == CAPACITY) {
+            // split: the upper half moves to a new chunk right after this one
+            Chunk upper = new Chunk();
+            int half = CAPACITY / 2;
+            System.arraycopy(chunk.values, half, upper.values, 0, CAPACITY - half);
+            upper.count = CAPACITY - half;
+            chunk.count = half;
+            linkAfter(chunk, upper);
+            if (slot > half) {
+                chunk = upper;
+                slot -= half;
+            }
+        }
+        System.arraycopy(chunk.values, slot, chunk.values, slot + 1, chunk.count - slot);
+        chunk.values[slot] = value;
+        chunk.count++;
+        length++;
+        return true;
+    }
+
+    public int removeValue(int index) {
+        checkIndex(index);
+        locate(index);
+        Chunk chunk = foundChunk;
+        int slot = foundSlot;
+        int value = chunk.values[slot];
+        System.arraycopy(chunk.values, slot + 1, chunk.values, slot, chunk.count - slot - 1);
+        chunk.count--;
+        length--;
+        if (chunk.count == 0) {
+            unlink(chunk);
+        } else if (chunk.count < CAPACITY / 2) {
+            if (chunk.next != null && chunk.count + chunk.next.count <= CAPACITY) {
+                mergeNext(chunk);
+            } else if (chunk.prev != null && chunk.prev.count + chunk.count <= CAPACITY) {
+                mergeNext(chunk.prev);
+            }
+        }
+        return value;
+    }
+
+    // reverses the order of the chunks and the values inside each of them
+    public void reverse() {
+        Chunk chunk = head;
+        while (chunk != null) {
+            Chunk after = chunk.next;
+            chunk.next = chunk.prev;
+            chunk.prev = after;
+            reverseSlots(chunk.values, 0, chunk.count - 1);
+            chunk = after;
+        }
+        Chunk temp = head;
+        head = tail;
+        tail = temp;
+    }
+
+    public int middleValue() {
+        checkNotEmpty();
+        return getValue(length / 2);
+    }
+
+    public int kthValueFromEnd(int k) {
+        if (k < 1 || k > length) {
+            throw new IndexOutOfBoundsException("k: " + k + ", Length: " + length);
+        }
+        return getValue(length - k);
+    }
+
+    // same strategies as LinkedList.removeDuplicates: a scan of the kept values for short
+    // lists, one pass for sorted lists, a primitive hash set otherwise. The kept values are
+    // written back from the head into full chunks, so the emptied chunks are dropped
+    public void removeDuplicates() {
+        if (length < 2) return;
+        boolean scan = length <= LinkedList.SMALL_DEDUP_LENGTH;
+        boolean adjacent = !scan && isMonotonic();
+        IntHashSet seen = scan || adjacent ? null : new IntHashSet(length);
+
+        Chunk writeChunk = head;
+        int writeSlot = 0;
+        int kept = 0;
+        int last = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                int value = chunk.values[i];
+                boolean keep;
+                if (scan) {
+                    keep = !containsKept(value, kept);
+                } else if (adjacent) {
+                    keep = kept == 0 || value != last;
+                } else {
+                    keep = seen.add(value);
+                }
+                if (!keep) continue;
+                // the write position never passes the read position, so this only
+                // overwrites values that were already read
+                if (writeSlot == CAPACITY) {
+                    writeChunk.count = CAPACITY;
+                    writeChunk = writeChunk.next;
+                    writeSlot = 0;
+                }
+                writeChunk.values[writeSlot++] = value;
+                last = value;
+                kept++;
+            }
+        }
+        truncateAfter(writeChunk, writeSlot, kept);
+    }
+
+    // is value among the first kept values (all in full chunks from head, then the rest)
+    private boolean containsKept(int value, int kept) {
+        for (Chunk chunk = head; kept > 0; chunk = chunk.next) {
+            int n = Math.min(kept, CAPACITY);
+            for (int i = 0; i < n; i++) {
+                if (chunk.values[i] == value) {
+                    return true;
+                }
+            }
+            kept -= n;
+        }
+        return false;
+    }
+
+    private boolean isMonotonic() {
+        boolean ascending = true;
+        boolean descending = true;
+        boolean first = true;
+        int previous = 0;
+        for (Chunk chunk = head; chunk != null && (ascending || descending); chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                int value = chunk.values[i];
+                if (!first) {
+                    ascending &= previous <= value;
+                    descending &= previous >= value;
+                }
+                first = false;
+                previous = value;
+            }
+        }
+        return ascending || descending;
+    }
+
+    // stable: values < x are compacted from the head, the others are parked in a scratch
+    // array and written back behind them; the values end up packed into full chunks
+    public void partitionList(int x) {
+        if (length < 2) return;
+        int[] greaterOrEqual = new int[length];
+        int other = 0;
+        Chunk writeChunk = head;
+        int writeSlot = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                int value = chunk.values[i];
+                if (value >= x) {
+                    greaterOrEqual[other++] = value;
+                    continue;
+                }
+                if (writeSlot == CAPACITY) {
+                    writeChunk.count = CAPACITY;
+                    writeChunk = writeChunk.next;
+                    writeSlot = 0;
+                }
+                writeChunk.values[writeSlot++] = value;
+            }
+        }
+        for (int i = 0; i < other; i++) {
+            if (writeSlot == CAPACITY) {
+                writeChunk.count = CAPACITY;
+                writeChunk = writeChunk.next;
+                writeSlot = 0;
+            }
+            writeChunk.values[writeSlot++] = greaterOrEqual[i];
+        }
+        truncateAfter(writeChunk, writeSlot, length);
+    }
+
+    // the list now ends at writeSlot in writeChunk and holds newLength values
+    private void truncateAfter(Chunk writeChunk, int writeSlot, int newLength) {
+        writeChunk.count = writeSlot;
+        Chunk rest = writeChunk.next;
+        writeChunk.next = null;
+        if (rest != null) {
+            rest.prev = null;
+        }
+        tail = writeChunk;
+        length = newLength;
+    }
+
+    public void swapPairs() {
+        Chunk pendingChunk = null;
+        int pendingSlot = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                if (pendingChunk == null) {
+                    pendingChunk = chunk;
+                    pendingSlot = i;
+                } else {
+                    int temp = pendingChunk.values[pendingSlot];
+                    pendingChunk.values[pendingSlot] = chunk.values[i];
+                    chunk.values[i] = temp;
+                    pendingChunk = null;
+                }
+            }
+        }
+    }
+
+    // swaps values inward from both ends, each side stepping across chunk boundaries
+    public void reverseBetween(int startIndex, int endIndex) {
+        if (length == 0 || startIndex < 0 || endIndex >= length || startIndex >= endIndex) {
+            return;
+        }
+        locate(startIndex);
+        Chunk left = foundChunk;
+        int leftSlot = foundSlot;
+        locate(endIndex);
+        Chunk right = foundChunk;
+        int rightSlot = foundSlot;
+        for (int i = startIndex, j = endIndex; i < j; i++, j--) {
+            int temp = left.values[leftSlot];
+            left.values[leftSlot] = right.values[rightSlot];
+            right.values[rightSlot] = temp;
+            if (++leftSlot == left.count) {
+                left = left.next;
+                leftSlot = 0;
+            }
+            if (--rightSlot < 0 && right.prev != null) {
+                right = right.prev;
+                rightSlot = right.count - 1;
+            }
+        }
+    }
+
+    public int[] toArray() {
+        int[] values = new int[length];
+        int i = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.values, 0, values, i, chunk.count);
+            i += chunk.count;
+        }
+        return values;
+    }
+
+    // walks whole chunks from the closer end
+    private void locate(int index) {
+        if (index < length / 2) {
+            Chunk chunk = head;
+            while (index >= chunk.count) {
+                index -= chunk.count;
+                chunk = chunk.next;
+            }
+            foundChunk = chunk;
+            foundSlot = index;
+        } else {
+            Chunk chunk = tail;
+            int fromEnd = length - 1 - index;
+            while (fromEnd >= chunk.count) {
+                fromEnd -= chunk.count;
+                chunk = chunk.prev;
+            }
+            foundChunk = chunk;
+            foundSlot = chunk.count - 1 - fromEnd;
+        }
+    }
+
+    // links chunk after before (null: at the head)
+    private void linkAfter(Chunk before, Chunk chunk) {
+        Chunk after = before == null ? head : before.next;
+        chunk.prev = before;
+        chunk.next = after;
+        if (before == null) {
+            head = chunk;
+        } else {
+            before.next = chunk;
+        }
+        if (after == null) {
+            tail = chunk;
+        } else {
+            after.prev = chunk;
+        }
+    }
+
+    private void unlink(Chunk chunk) {
+        if (chunk.prev == null) {
+            head = chunk.next;
+        } else {
+            chunk.prev.next = chunk.next;
+        }
+        if (chunk.next == null) {
+            tail = chunk.prev;
+        } else {
+            chunk.next.prev = chunk.prev;
+        }
+        chunk.next = null;
+        chunk.prev = null;
+    }
+
+    // moves every value of chunk.next to the end of chunk and drops chunk.next
+    private void mergeNext(Chunk chunk) {
+        Chunk next = chunk.next;
+        System.arraycopy(next.values, 0, chunk.values, chunk.count, next.count);
+        chunk.count += next.count;
+        unlink(next);
+    }
+
+    private static void reverseSlots(int[] values, int from, int to) {
+        while (from < to) {
+            int temp = values[from];
+            values[from] = values[to];
+            values[to] = temp;
+            from++;
+            to--;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (length == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+    }
+}
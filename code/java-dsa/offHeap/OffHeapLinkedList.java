@@ -0,0 +1,471 @@
+package offHeap;
+
+import java.lang.ref.Cleaner;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+import jdk.incubator.foreign.MemoryAccess;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+
+import linkedList.IntList;
+import util.IntHashSet;
+
+// singly linked int list whose nodes live outside the Java heap: node n is the 8 bytes at
+// offset 8n of one native MemorySegment, a value followed by the id of the next node (NIL
+// ends the list). The GC never sees the nodes, so a list of 1e8 values adds nothing to the
+// heap or to full-GC marking, where a LinkedList of the same size holds 1e8 Node objects.
+// Removed nodes go on a free list threaded through their next fields and are reused first;
+// when no slot is left the segment is copied into one twice as large. Node ids stay valid
+// until the node is removed.
+// Close the list (try-with-resources) to release its native memory as soon as it is done
+// with; the list cannot be used afterwards. A list that is never closed is only freed by a
+// Cleaner after the GC finds it unreachable, which may take long, or never happen while the
+// heap is quiet; the native memory does not count as heap, so it does not hurry the GC.
+// Needs --add-modules jdk.incubator.foreign at compile and run time, which is why it lives in
+// its own package instead of linkedList
+public class OffHeapLinkedList implements IntList, AutoCloseable {
+    public static final int NIL = -1;
+
+    private static final int NODE_BYTES = 8;
+    private static final int NEXT_OFFSET = 4;
+    private static final int DEFAULT_CAPACITY = 1024;
+    // ids are non-negative ints
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE;
+    // same as LinkedList.SMALL_DEDUP_LENGTH
+    static final int SMALL_DEDUP_LENGTH = 32;
+    // frees the segments of lists that were never closed
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private ResourceScope scope;
+    private MemorySegment segment;
+    private int capacity;
+    // slots handed out so far; slots >= used have never been linked
+    private int used;
+    private int freeHead = NIL;
+
+    private int head = NIL;
+    private int tail = NIL;
+    private int length;
+
+    public OffHeapLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public OffHeapLinkedList(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Capacity: " + initialCapacity);
+        }
+        capacity = initialCapacity;
+        // shared: the list may be built on one thread and used on another, like LinkedList
+        scope = ResourceScope.newSharedScope(CLEANER);
+        segment = MemorySegment.allocateNative((long) capacity * NODE_BYTES, scope);
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    // native bytes reserved for nodes, in use or not
+    public long byteSize() {
+        return (long) capacity * NODE_BYTES;
+    }
+
+    // releases the native memory; any later access to the segment throws IllegalStateException
+    public void close() {
+        if (scope.isAlive()) {
+            scope.close();
+            head = NIL;
+            tail = NIL;
+            length = 0;
+        }
+    }
+
+    // node ids: walk with head() and next(node) until NIL
+
+    public int head() {
+        return head;
+    }
+
+    public int tail() {
+        return tail;
+    }
+
+    public int value(int node) {
+        return MemoryAccess.getIntAtOffset(segment, (long) node * NODE_BYTES);
+    }
+
+    public int next(int node) {
+        return MemoryAccess.getIntAtOffset(segment, (long) node * NODE_BYTES + NEXT_OFFSET);
+    }
+
+    private void setValue(int node, int value) {
+        MemoryAccess.setIntAtOffset(segment, (long) node * NODE_BYTES, value);
+    }
+
+    private void setNext(int node, int next) {
+        MemoryAccess.setIntAtOffset(segment, (long) node * NODE_BYTES + NEXT_OFFSET, next);
+    }
+
+    // a free slot: the last removed node, else the next fresh one (growing the segment)
+    private int allocate(int value, int next) {
+        int node;
+        if (freeHead != NIL) {
+            node = freeHead;
+            freeHead = next(node);
+        } else {
+            if (used == capacity) {
+                grow();
+            }
+            node = used++;
+        }
+        setValue(node, value);
+        setNext(node, next);
+        return node;
+    }
+
+    private void free(int node) {
+        setNext(node, freeHead);
+        freeHead = node;
+    }
+
+    private void grow() {
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("List is full: " + capacity + " nodes");
+        }
+        int newCapacity = (int) Math.min((long) capacity * 2, MAX_CAPACITY);
+        ResourceScope newScope = ResourceScope.newSharedScope(CLEANER);
+        MemorySegment newSegment = MemorySegment.allocateNative((long) newCapacity * NODE_BYTES, newScope);
+        newSegment.copyFrom(segment);
+        scope.close();
+        scope = newScope;
+        segment = newSegment;
+        capacity = newCapacity;
+    }
+
+    public void printList() {
+        forEach(System.out::println);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int node = head; node != NIL; node = next(node)) {
+            action.accept(value(node));
+        }
+    }
+
+    public void append(int value) {
+        int node = allocate(value, NIL);
+        if (length == 0) {
+            head = node;
+        } else {
+            setNext(tail, node);
+        }
+        tail = node;
+        length++;
+    }
+
+    public void prepend(int value) {
+        head = allocate(value, head);
+        if (length == 0) {
+            tail = head;
+        }
+        length++;
+    }
+
+    public int removeFirst() {
+        if (length == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        int node = head;
+        int value = value(node);
+        head = next(node);
+        free(node);
+        length--;
+        if (length == 0) {
+            tail = NIL;
+        }
+        return value;
+    }
+
+    // O(n): nodes have no back link, so finding the new tail walks from head, and draining
+    // the list from the tail is O(n^2). A cached predecessor of tail would only save one walk
+    // (the next call needs its predecessor in turn); drain with reverse() and removeFirst()
+    // instead, which is O(n) in total
+    public int removeLast() {
+        if (length == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        if (length == 1) {
+            return removeFirst();
+        }
+        int before = get(length - 2);
+        int value = value(tail);
+        free(tail);
+        setNext(before, NIL);
+        tail = before;
+        length--;
+        return value;
+    }
+
+    // node id at index, or NIL when out of range
+    public int get(int index) {
+        if (index < 0 || index >= length) {
+            return NIL;
+        }
+        if (index == length - 1) {
+            return tail;
+        }
+        int node = head;
+        for (int i = 0; i < index; i++) {
+            node = next(node);
+        }
+        return node;
+    }
+
+    public int getValue(int index) {
+        checkIndex(index);
+        return value(get(index));
+    }
+
+    public boolean set(int index, int value) {
+        int node = get(index);
+        if (node == NIL) {
+            return false;
+        }
+        setValue(node, value);
+        return true;
+    }
+
+    public boolean insert(int index, int value) {
+        if (index < 0 || index > length) {
+            return false;
+        }
+        if (index == 0) {
+            prepend(value);
+            return true;
+        }
+        if (index == length) {
+            append(value);
+            return true;
+        }
+        int before = get(index - 1);
+        setNext(before, allocate(value, next(before)));
+        length++;
+        return true;
+    }
+
+    public int removeValue(int index) {
+        checkIndex(index);
+        if (index == 0) {
+            return removeFirst();
+        }
+        int before = get(index - 1);
+        int node = next(before);
+        int value = value(node);
+        unlinkAfter(before);
+        return value;
+    }
+
+    // unlinks next(before) (which must exist) and frees its slot
+    private void unlinkAfter(int before) {
+        int node = next(before);
+        int after = next(node);
+        setNext(before, after);
+        if (after == NIL) {
+            tail = before;
+        }
+        free(node);
+        length--;
+    }
+
+    public void reverse() {
+        int before = NIL;
+        int node = head;
+        tail = head;
+        while (node != NIL) {
+            int after = next(node);
+            setNext(node, before);
+            before = node;
+            node = after;
+        }
+        head = before;
+    }
+
+    // second middle node for even lengths, NIL when empty
+    public int findMiddleNode() {
+        int slow = head;
+        int fast = head;
+        while (fast != NIL && next(fast) != NIL) {
+            slow = next(slow);
+            fast = next(next(fast));
+        }
+        return slow;
+    }
+
+    public int middleValue() {
+        if (length == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return value(findMiddleNode());
+    }
+
+    // k = 1 is the tail; NIL when k is out of range
+    public int findKthNodeFromEnd(int k) {
+        if (k < 1 || k > length) {
+            return NIL;
+        }
+        int slow = head;
+        int fast = head;
+        for (int i = 0; i < k; i++) {
+            fast = next(fast);
+        }
+        while (fast != NIL) {
+            slow = next(slow);
+            fast = next(fast);
+        }
+        return slow;
+    }
+
+    public int kthValueFromEnd(int k) {
+        if (k < 1 || k > length) {
+            throw new IndexOutOfBoundsException("k: " + k + ", Length: " + length);
+        }
+        return value(findKthNodeFromEnd(k));
+    }
+
+    // same strategies as linkedList.LinkedList.removeDuplicates
+    public void removeDuplicates() {
+        if (length < 2) return;
+        if (length <= SMALL_DEDUP_LENGTH) {
+            for (int current = head; current != NIL; current = next(current)) {
+                int value = value(current);
+                int runner = current;
+                while (next(runner) != NIL) {
+                    if (value(next(runner)) == value) {
+                        unlinkAfter(runner);
+                    } else {
+                        runner = next(runner);
+                    }
+                }
+            }
+        } else if (isMonotonic()) {
+            int current = head;
+            while (next(current) != NIL) {
+                if (value(next(current)) == value(current)) {
+                    unlinkAfter(current);
+                } else {
+                    current = next(current);
+                }
+            }
+        } else {
+            IntHashSet seen = new IntHashSet(length);
+            seen.add(value(head));
+            int current = head;
+            while (next(current) != NIL) {
+                if (seen.add(value(next(current)))) {
+                    current = next(current);
+                } else {
+                    unlinkAfter(current);
+                }
+            }
+        }
+    }
+
+    private boolean isMonotonic() {
+        boolean ascending = true;
+        boolean descending = true;
+        int current = head;
+        int value = value(current);
+        while (next(current) != NIL && (ascending || descending)) {
+            current = next(current);
+            int nextValue = value(current);
+            ascending &= value <= nextValue;
+            descending &= value >= nextValue;
+            value = nextValue;
+        }
+        return ascending || descending;
+    }
+
+    // stable: relinks the nodes into a < x chain followed by a >= x chain
+    public void partitionList(int x) {
+        if (length < 2) return;
+        int lessHead = NIL;
+        int lessTail = NIL;
+        int otherHead = NIL;
+        int otherTail = NIL;
+        for (int node = head; node != NIL; node = next(node)) {
+            if (value(node) < x) {
+                if (lessTail == NIL) lessHead = node; else setNext(lessTail, node);
+                lessTail = node;
+            } else {
+                if (otherTail == NIL) otherHead = node; else setNext(otherTail, node);
+                otherTail = node;
+            }
+        }
+        if (otherTail != NIL) {
+            setNext(otherTail, NIL);
+        }
+        if (lessTail == NIL) {
+            head = otherHead;
+            tail = otherTail;
+        } else {
+            setNext(lessTail, otherHead);
+            head = lessHead;
+            tail = otherTail != NIL ? otherTail : lessTail;
+        }
+    }
+
+    public void reverseBetween(int startIndex, int endIndex) {
+        if (length == 0 || startIndex < 0 || endIndex >= length || startIndex >= endIndex) {
+            return;
+        }
+        // prev is the node before startIndex, NIL when the range starts at head
+        int prev = startIndex == 0 ? NIL : get(startIndex - 1);
+        int current = prev == NIL ? head : next(prev);
+        for (int j = 0; j < endIndex - startIndex; j++) {
+            int nodeToMove = next(current);
+            setNext(current, next(nodeToMove));
+            if (prev == NIL) {
+                setNext(nodeToMove, head);
+                head = nodeToMove;
+            } else {
+                setNext(nodeToMove, next(prev));
+                setNext(prev, nodeToMove);
+            }
+        }
+        if (next(current) == NIL) {
+            tail = current;
+        }
+    }
+
+    public void swapPairs() {
+        if (length < 2) return;
+        int prev = NIL;
+        int first = head;
+        while (first != NIL && next(first) != NIL) {
+            int second = next(first);
+            if (prev == NIL) head = second; else setNext(prev, second);
+            setNext(first, next(second));
+            setNext(second, first);
+            prev = first;
+            first = next(first);
+        }
+        tail = first != NIL ? first : prev;
+    }
+
+    public int[] toArray() {
+        int[] values = new int[length];
+        int node = head;
+        for (int i = 0; i < length; i++) {
+            values[i] = value(node);
+            node = next(node);
+        }
+        return values;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package search;
+
+// a sorted int[] copied into Eytzinger (breadth-first heap) order: the root sits at slot 1
+// and the children of slot k at 2k and 2k+1. A lookup walks down one level per step, so the
+// first levels it touches are the same few cache lines for every key and stay cached, and
+// the next step's slots 2k, 2k+1 are adjacent. Binary search over the plain array instead
+// jumps half the array away each step and misses the cache on every probe once the array
+// outgrows it. Costs a second copy of the values plus their original indices
+public class EytzingerIndex {
+    // slot 0 is unused so that the child arithmetic stays 2k / 2k+1
+    private final int[] tree;
+    // index in the sorted source array of the value in each slot
+    private final int[] positions;
+    private final int length;
+
+    public EytzingerIndex(int[] sorted) {
+        length = sorted.length;
+        tree = new int[length + 1];
+        positions = new int[length + 1];
+        fill(sorted, 0, 1);
+    }
+
+    // in-order walk of the implicit tree hands out the sorted values in order
+    private int fill(int[] sorted, int i, int k) {
+        if (k <= length) {
+            i = fill(sorted, i, 2 * k);
+            tree[k] = sorted[i];
+            positions[k] = i;
+            i++;
+            i = fill(sorted, i, 2 * k + 1);
+        }
+        return i;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    // same result as SortedArrays.lowerBound on the source array
+    public int lowerBound(int key) {
+        int k = slotOfLowerBound(key);
+        return k == 0 ? length : positions[k];
+    }
+
+    // index in the source array of an element equal to key, or -1
+    public int indexOf(int key) {
+        int k = slotOfLowerBound(key);
+        return k != 0 && tree[k] == key ? positions[k] : -1;
+    }
+
+    public boolean contains(int key) {
+        int k = slotOfLowerBound(key);
+        return k != 0 && tree[k] == key;
+    }
+
+    // branch-free descent: go right while the slot is smaller than key. The last left turn
+    // marks the answer; its slot is k with the trailing right turns (1 bits) and that left
+    // turn shifted off. 0 means every value is smaller than key
+    private int slotOfLowerBound(int key) {
+        int[] tree = this.tree;
+        int k = 1;
+        while (k <= length) {
+            k = 2 * k + (tree[k] < key ? 1 : 0);
+        }
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+}
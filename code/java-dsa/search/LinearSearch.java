@@ -0,0 +1,94 @@
+package search;
+
+import util.IntHashSet;
+
+// scans of unsorted int[] arrays. indexOf and the bulk contains use VectorLinearSearch (SIMD
+// compares through jdk.incubator.vector) when the JVM was started with
+// --add-modules jdk.incubator.vector, and the scalar loops below otherwise
+public final class LinearSearch {
+    static final boolean VECTOR_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    // up to this many targets the bulk contains compares every element against every target;
+    // past it, one hash lookup per element is cheaper
+    static final int BULK_COMPARE_LIMIT = 16;
+    private static final int SCALAR_BLOCK = 1024;
+
+    private LinearSearch() {
+    }
+
+    public static boolean isVectorized() {
+        return VECTOR_AVAILABLE;
+    }
+
+    // index of the first element equal to key, or -1
+    public static int indexOf(int[] a, int key) {
+        return VECTOR_AVAILABLE ? VectorLinearSearch.indexOf(a, key) : scalarIndexOf(a, key);
+    }
+
+    public static int scalarIndexOf(int[] a, int key) {
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static boolean contains(int[] a, int key) {
+        return indexOf(a, key) >= 0;
+    }
+
+    // found[i] is true when targets[i] occurs in a. a is read once, however many targets there
+    // are, and the scan stops as soon as every target has been seen
+    public static boolean[] contains(int[] a, int[] targets) {
+        if (targets.length > BULK_COMPARE_LIMIT) {
+            return hashContains(a, targets);
+        }
+        return VECTOR_AVAILABLE ? VectorLinearSearch.contains(a, targets) : scalarContains(a, targets);
+    }
+
+    // cache-blocked: each block of a is read from memory once and then scanned from L1 for
+    // every target still missing
+    static boolean[] scalarContains(int[] a, int[] targets) {
+        boolean[] found = new boolean[targets.length];
+        int missing = targets.length;
+        for (int start = 0; start < a.length && missing > 0; start += SCALAR_BLOCK) {
+            int end = Math.min(start + SCALAR_BLOCK, a.length);
+            for (int j = 0; j < targets.length; j++) {
+                if (!found[j] && indexOf(a, start, end, targets[j]) >= 0) {
+                    found[j] = true;
+                    missing--;
+                }
+            }
+        }
+        return found;
+    }
+
+    private static int indexOf(int[] a, int from, int to, int key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static boolean[] hashContains(int[] a, int[] targets) {
+        IntHashSet wanted = new IntHashSet(targets.length);
+        for (int target : targets) {
+            wanted.add(target);
+        }
+        IntHashSet seen = new IntHashSet(targets.length);
+        for (int i = 0; i < a.length && seen.size() < wanted.size(); i++) {
+            if (wanted.contains(a[i])) {
+                seen.add(a[i]);
+            }
+        }
+        boolean[] found = new boolean[targets.length];
+        for (int j = 0; j < targets.length; j++) {
+            found[j] = seen.contains(targets[j]);
+        }
+        return found;
+    }
+}
@@ -0,0 +1,313 @@
+package search;
+
+import java.util.Arrays;
+
+// lookups in sorted (ascending) arrays of int, long and Comparable values.
+// - binarySearch: index of an element equal to key, or -1 when there is none
+// - lowerBound: first index whose element is >= key (a.length when every element is smaller)
+// - upperBound: first index whose element is > key (a.length when none is)
+// - branchless*: the same halving, but the step is a conditional move instead of a branch,
+//   so random lookups pay no branch mispredictions; always log2(n) steps, no early exit
+// - interpolationSearch: probes where key should sit if the values were spread evenly,
+//   O(log log n) on uniform keys but up to O(n) on skewed ones
+// - searchAll: many lookups at once, each giving the first equal index (like lowerBound, not
+//   binarySearch, when there are duplicates), see below
+// for repeated lookups in arrays far larger than the cache, see EytzingerIndex
+public final class SortedArrays {
+    // searches interleaved by searchAll; enough independent loads to keep the memory system busy
+    static final int SEARCH_BATCH = 16;
+    // searchAll merge-walks once there is at least one key per this many elements
+    static final int MERGE_WALK_RATIO = 8;
+
+    private SortedArrays() {
+    }
+
+    // int[]
+
+    public static int binarySearch(int[] a, int key) {
+        int left = 0;
+        int right = a.length - 1;
+        while (left <= right) {
+            int mid = (left + right) >>> 1;
+            int value = a[mid];
+            if (value == key) {
+                return mid;
+            }
+            if (value < key) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    public static int lowerBound(int[] a, int key) {
+        int left = 0;
+        int right = a.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (a[mid] < key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    public static int upperBound(int[] a, int key) {
+        int left = 0;
+        int right = a.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (a[mid] <= key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    // the answer stays inside [base, base + length]; each step keeps the half that holds it
+    public static int branchlessLowerBound(int[] a, int key) {
+        int length = a.length;
+        if (length == 0) {
+            return 0;
+        }
+        int base = 0;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = a[base + half] < key ? base + half : base;
+            length -= half;
+        }
+        return base + (a[base] < key ? 1 : 0);
+    }
+
+    public static int branchlessBinarySearch(int[] a, int key) {
+        int index = branchlessLowerBound(a, key);
+        return index < a.length && a[index] == key ? index : -1;
+    }
+
+    public static int interpolationSearch(int[] a, int key) {
+        int low = 0;
+        int high = a.length - 1;
+        while (low <= high && key >= a[low] && key <= a[high]) {
+            if (a[low] == a[high]) {
+                return a[low] == key ? low : -1;
+            }
+            // double math: the differences can overflow int and their product long
+            int pos = low + (int) ((double) ((long) key - a[low]) / ((long) a[high] - a[low]) * (high - low));
+            int value = a[pos];
+            if (value == key) {
+                return pos;
+            }
+            if (value < key) {
+                low = pos + 1;
+            } else {
+                high = pos - 1;
+            }
+        }
+        return -1;
+    }
+
+    // batched lookups: result[i] is the index of the first element equal to keys[i], or -1.
+    // Few keys against a big array are searched interleaved, many keys are sorted and
+    // merge-walked against the array
+    public static int[] searchAll(int[] a, int[] keys) {
+        if ((long) keys.length * MERGE_WALK_RATIO >= a.length) {
+            return mergeSearchAll(a, keys);
+        }
+        return interleavedSearchAll(a, keys);
+    }
+
+    // SEARCH_BATCH branchless lower-bound searches advance in lockstep: every step issues one
+    // independent load per search, so their cache misses overlap instead of queueing
+    public static int[] interleavedSearchAll(int[] a, int[] keys) {
+        int[] result = new int[keys.length];
+        int n = a.length;
+        if (n == 0) {
+            Arrays.fill(result, -1);
+            return result;
+        }
+        int[] base = new int[SEARCH_BATCH];
+        for (int start = 0; start < keys.length; start += SEARCH_BATCH) {
+            int count = Math.min(SEARCH_BATCH, keys.length - start);
+            Arrays.fill(base, 0, count, 0);
+            int length = n;
+            while (length > 1) {
+                int half = length >>> 1;
+                for (int q = 0; q < count; q++) {
+                    int b = base[q];
+                    base[q] = a[b + half] < keys[start + q] ? b + half : b;
+                }
+                length -= half;
+            }
+            for (int q = 0; q < count; q++) {
+                int key = keys[start + q];
+                int index = base[q] + (a[base[q]] < key ? 1 : 0);
+                result[start + q] = index < n && a[index] == key ? index : -1;
+            }
+        }
+        return result;
+    }
+
+    // sorts the keys (each packed with its position into one long) and walks the array once
+    public static int[] mergeSearchAll(int[] a, int[] keys) {
+        long[] queries = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            queries[i] = (long) keys[i] << 32 | i;
+        }
+        Arrays.sort(queries);
+        int[] result = new int[keys.length];
+        int index = 0;
+        for (long query : queries) {
+            int key = (int) (query >> 32);
+            while (index < a.length && a[index] < key) {
+                index++;
+            }
+            result[(int) query] = index < a.length && a[index] == key ? index : -1;
+        }
+        return result;
+    }
+
+    // long[]
+
+    public static int binarySearch(long[] a, long key) {
+        int left = 0;
+        int right = a.length - 1;
+        while (left <= right) {
+            int mid = (left + right) >>> 1;
+            long value = a[mid];
+            if (value == key) {
+                return mid;
+            }
+            if (value < key) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    public static int lowerBound(long[] a, long key) {
+        int left = 0;
+        int right = a.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (a[mid] < key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    public static int upperBound(long[] a, long key) {
+        int left = 0;
+        int right = a.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (a[mid] <= key) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    public static int branchlessLowerBound(long[] a, long key) {
+        int length = a.length;
+        if (length == 0) {
+            return 0;
+        }
+        int base = 0;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = a[base + half] < key ? base + half : base;
+            length -= half;
+        }
+        return base + (a[base] < key ? 1 : 0);
+    }
+
+    public static int branchlessBinarySearch(long[] a, long key) {
+        int index = branchlessLowerBound(a, key);
+        return index < a.length && a[index] == key ? index : -1;
+    }
+
+    public static int interpolationSearch(long[] a, long key) {
+        int low = 0;
+        int high = a.length - 1;
+        while (low <= high && key >= a[low] && key <= a[high]) {
+            if (a[low] == a[high]) {
+                return a[low] == key ? low : -1;
+            }
+            // double math: long differences can overflow
+            int pos = low + (int) (((double) key - a[low]) / ((double) a[high] - a[low]) * (high - low));
+            // rounding in double can land just outside [low, high]
+            pos = Math.min(Math.max(pos, low), high);
+            long value = a[pos];
+            if (value == key) {
+                return pos;
+            }
+            if (value < key) {
+                low = pos + 1;
+            } else {
+                high = pos - 1;
+            }
+        }
+        return -1;
+    }
+
+    // Comparable[]: ordered by compareTo, null elements and keys are not allowed
+
+    public static <T extends Comparable<? super T>> int binarySearch(T[] a, T key) {
+        int left = 0;
+        int right = a.length - 1;
+        while (left <= right) {
+            int mid = (left + right) >>> 1;
+            int cmp = a[mid].compareTo(key);
+            if (cmp == 0) {
+                return mid;
+            }
+            if (cmp < 0) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    public static <T extends Comparable<? super T>> int lowerBound(T[] a, T key) {
+        int left = 0;
+        int right = a.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (a[mid].compareTo(key) < 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+
+    public static <T extends Comparable<? super T>> int upperBound(T[] a, T key) {
+        int left = 0;
+        int right = a.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (a[mid].compareTo(key) <= 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
+    }
+}
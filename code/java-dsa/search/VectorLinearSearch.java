@@ -0,0 +1,59 @@
+package search;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+// SIMD side of LinearSearch: compares a whole vector of elements with the key at once and
+// takes the first set lane of the mask. Only LinearSearch refers to this class, and only
+// once it knows the jdk.incubator.vector module is present, so without the module this
+// class is never loaded
+final class VectorLinearSearch {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private VectorLinearSearch() {
+    }
+
+    static int indexOf(int[] a, int key) {
+        int i = 0;
+        int bound = SPECIES.loopBound(a.length);
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Integer> hits = IntVector.fromArray(SPECIES, a, i).eq(key);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < a.length; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // each vector of elements is loaded once and compared with every target still missing
+    static boolean[] contains(int[] a, int[] targets) {
+        boolean[] found = new boolean[targets.length];
+        int missing = targets.length;
+        int i = 0;
+        int bound = SPECIES.loopBound(a.length);
+        for (; i < bound && missing > 0; i += SPECIES.length()) {
+            IntVector values = IntVector.fromArray(SPECIES, a, i);
+            for (int j = 0; j < targets.length; j++) {
+                if (!found[j] && values.eq(targets[j]).anyTrue()) {
+                    found[j] = true;
+                    missing--;
+                }
+            }
+        }
+        for (; i < a.length && missing > 0; i++) {
+            for (int j = 0; j < targets.length; j++) {
+                if (!found[j] && targets[j] == a[i]) {
+                    found[j] = true;
+                    missing--;
+                }
+            }
+        }
+        return found;
+    }
+}
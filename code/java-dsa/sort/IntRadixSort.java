@@ -0,0 +1,63 @@
+package sort;
+
+// LSD radix sort for int keys: four stable counting passes over 8-bit digits, least
+// significant first, so the cost is O(n) with no comparisons. Digits are taken with the sign
+// bit flipped, which orders negative values before positive ones. The array version needs
+// one scratch array of the same length; LinkedList.radixSort and DoublyLinkedList.radixSort
+// use the same digits but relink their nodes into bucket chains instead
+public final class IntRadixSort {
+    public static final int RADIX_BITS = 8;
+    public static final int BUCKETS = 1 << RADIX_BITS;
+    private static final int MASK = BUCKETS - 1;
+    private static final int PASSES = Integer.SIZE / RADIX_BITS;
+
+    private IntRadixSort() {
+    }
+
+    // the digit of value that the pass at shift (0, 8, 16, 24) sorts on
+    public static int digit(int value, int shift) {
+        return ((value ^ Integer.MIN_VALUE) >>> shift) & MASK;
+    }
+
+    public static void sort(int[] arr) {
+        int length = arr.length;
+        if (length < 2) {
+            return;
+        }
+        // histograms of all four digits in one read of the input
+        int[][] counts = new int[PASSES][BUCKETS];
+        for (int value : arr) {
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass][digit(value, pass * RADIX_BITS)]++;
+            }
+        }
+
+        int[] from = arr;
+        int[] to = new int[length];
+        for (int pass = 0; pass < PASSES; pass++) {
+            int shift = pass * RADIX_BITS;
+            int[] count = counts[pass];
+            // every key has the same digit here: the pass would not move anything
+            if (count[digit(from[0], shift)] == length) {
+                continue;
+            }
+            // counts become the first output slot of each bucket
+            int offset = 0;
+            for (int d = 0; d < BUCKETS; d++) {
+                int c = count[d];
+                count[d] = offset;
+                offset += c;
+            }
+            for (int i = 0; i < length; i++) {
+                int value = from[i];
+                to[count[digit(value, shift)]++] = value;
+            }
+            int[] temp = from;
+            from = to;
+            to = temp;
+        }
+        if (from != arr) {
+            System.arraycopy(from, 0, arr, 0, length);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package sort;
+
+// introsort for int[]: quicksort with a median-of-three pivot (Tukey's ninther on large
+// ranges) and a three-way partition, so runs of equal values are settled in one pass instead
+// of being sorted again. Ranges shorter than INSERTION_CUTOFF finish with insertion sort, and a
+// range still being split after 2*log2(n) levels goes to heapsort, so sorted, reversed and
+// all-equal input stay O(n log n) and the recursion depth stays O(log n)
+public final class IntSort {
+    static final int INSERTION_CUTOFF = 24;
+    // from this length on the pivot is the median of three medians of three
+    static final int NINTHER_THRESHOLD = 128;
+
+    private IntSort() {
+    }
+
+    public static void sort(int[] arr) {
+        sort(arr, 0, arr.length - 1);
+    }
+
+    // sorts arr[low..high], both ends inclusive like linkedList.Main.quickSort
+    public static void sort(int[] arr, int low, int high) {
+        if (low < high) {
+            introSort(arr, low, high, depthLimit(high - low + 1));
+        }
+    }
+
+    static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length));
+    }
+
+    static void introSort(int[] arr, int low, int high, int depth) {
+        while (high - low >= INSERTION_CUTOFF) {
+            if (depth-- == 0) {
+                heapSort(arr, low, high);
+                return;
+            }
+            long bounds = partition(arr, low, high);
+            int lt = lower(bounds);
+            int gt = upper(bounds);
+            // recurse into the smaller side and loop on the larger one
+            if (lt - low < high - gt) {
+                introSort(arr, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                introSort(arr, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+        insertionSort(arr, low, high);
+    }
+
+    // three-way (Dutch flag) partition of arr[low..high] around the chosen pivot value:
+    // afterwards arr[low..lt-1] < pivot, arr[lt..gt] == pivot, arr[gt+1..high] > pivot.
+    // lt and gt come back packed into one long, read them with lower() / upper()
+    static long partition(int[] arr, int low, int high) {
+        int pivot = arr[pivotIndex(arr, low, high)];
+        int lt = low;
+        int i = low;
+        int gt = high;
+        while (i <= gt) {
+            int value = arr[i];
+            if (value < pivot) {
+                arr[i++] = arr[lt];
+                arr[lt++] = value;
+            } else if (value > pivot) {
+                arr[i] = arr[gt];
+                arr[gt--] = value;
+            } else {
+                i++;
+            }
+        }
+        return (long) lt << 32 | (gt & 0xFFFFFFFFL);
+    }
+
+    static int lower(long bounds) {
+        return (int) (bounds >>> 32);
+    }
+
+    static int upper(long bounds) {
+        return (int) bounds;
+    }
+
+    static int pivotIndex(int[] arr, int low, int high) {
+        int mid = (low + high) >>> 1;
+        if (high - low < NINTHER_THRESHOLD) {
+            return median(arr, low, mid, high);
+        }
+        int step = (high - low) >>> 3;
+        return median(arr,
+                median(arr, low, low + step, low + 2 * step),
+                median(arr, mid - step, mid, mid + step),
+                median(arr, high - 2 * step, high - step, high));
+    }
+
+    // index of the median of arr[i], arr[j], arr[k]
+    private static int median(int[] arr, int i, int j, int k) {
+        int x = arr[i];
+        int y = arr[j];
+        int z = arr[k];
+        if (x < y) {
+            if (y < z) return j;
+            return x < z ? k : i;
+        }
+        if (x < z) return i;
+        return y < z ? k : j;
+    }
+
+    static void insertionSort(int[] arr, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    // max-heap over arr[low..high], with the root at arr[low]
+    static void heapSort(int[] arr, int low, int high) {
+        int length = high - low + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(arr, low, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            int temp = arr[low];
+            arr[low] = arr[low + end];
+            arr[low + end] = temp;
+            siftDown(arr, low, 0, end);
+        }
+    }
+
+    private static void siftDown(int[] arr, int offset, int i, int length) {
+        int value = arr[offset + i];
+        int child;
+        while ((child = 2 * i + 1) < length) {
+            if (child + 1 < length && arr[offset + child + 1] > arr[offset + child]) {
+                child++;
+            }
+            if (arr[offset + child] <= value) {
+                break;
+            }
+            arr[offset + i] = arr[offset + child];
+            i = child;
+        }
+        arr[offset + i] = value;
+    }
+}
@@ -0,0 +1,90 @@
+package sort;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// fork/join version of IntSort: every range longer than the threshold is split with
+// IntSort.partition, the left side is forked and the right side is sorted by the current
+// worker; ranges at or under the threshold go to the sequential introsort. The pool is owned
+// by the sorter, so one instance can be reused across sorts and is closed when done
+public class ParallelIntSort implements AutoCloseable {
+    // below this many elements a fork costs more than it saves
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelIntSort() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_THRESHOLD);
+    }
+
+    public ParallelIntSort(int parallelism, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold: " + threshold);
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.threshold = threshold;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public void sort(int[] arr) {
+        sort(arr, 0, arr.length - 1);
+    }
+
+    // sorts arr[low..high], both ends inclusive like IntSort.sort
+    public void sort(int[] arr, int low, int high) {
+        if (low < high) {
+            pool.invoke(new SortTask(arr, low, high, IntSort.depthLimit(high - low + 1)));
+        }
+    }
+
+    // runs task on this sorter's pool, e.g. to compare against Arrays.parallelSort on the
+    // same number of workers (its subtasks fork into the pool of the calling worker)
+    public void execute(Runnable task) {
+        pool.submit(task).join();
+    }
+
+    public void close() {
+        pool.shutdown();
+    }
+
+    private final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int low;
+        private final int high;
+        private final int depth;
+
+        SortTask(int[] arr, int low, int high, int depth) {
+            this.arr = arr;
+            this.low = low;
+            this.high = high;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < threshold) {
+                IntSort.introSort(arr, low, high, depth);
+                return;
+            }
+            if (depth == 0) {
+                IntSort.heapSort(arr, low, high);
+                return;
+            }
+            long bounds = IntSort.partition(arr, low, high);
+            SortTask left = new SortTask(arr, low, IntSort.lower(bounds) - 1, depth - 1);
+            left.fork();
+            new SortTask(arr, IntSort.upper(bounds) + 1, high, depth - 1).compute();
+            left.join();
+        }
+    }
+}
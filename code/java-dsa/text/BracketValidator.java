@@ -0,0 +1,222 @@
+package text;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// checks that brackets are balanced and properly nested, for any set of opener/closer pairs
+// ("([{" / ")]}" by default); everything else is ignored. The result is the offset of the
+// first mismatch, or BALANCED (-1): a closer that does not match the innermost open bracket
+// fails at its own offset, input that ends with brackets still open fails at its length.
+// One pass, no boxing: every char is looked up in a table, and open brackets are kept as
+// pair numbers on a byte[] stack, so memory is one read buffer plus one byte per nesting
+// level. With a single pair there is nothing to match, and a depth counter replaces the
+// stack. Readers are checked in chars; byte channels are scanned as raw bytes (offsets in
+// bytes) when every bracket is ASCII, which is exact for UTF-8 and other ASCII-compatible
+// encodings, and decoded as UTF-8 (offsets in chars) otherwise
+public final class BracketValidator {
+    public static final long BALANCED = -1;
+    public static final BracketValidator STANDARD = new BracketValidator("([{", ")]}");
+
+    private static final int BUFFER_SIZE = 64 << 10;
+    private static final int MAX_PAIRS = Byte.MAX_VALUE;
+
+    // per char: 0 for text, p + 1 for the opener of pair p, -(p + 1) for its closer
+    private final byte[] codes = new byte[Character.MAX_VALUE + 1];
+    private final boolean single;
+    private final char singleOpener;
+    private final char singleCloser;
+    private final boolean ascii;
+
+    // openers.charAt(i) pairs with closers.charAt(i); all the chars must differ
+    public BracketValidator(String openers, String closers) {
+        int pairs = openers.length();
+        if (pairs == 0 || pairs > MAX_PAIRS || closers.length() != pairs) {
+            throw new IllegalArgumentException("Need 1 to " + MAX_PAIRS + " opener/closer pairs");
+        }
+        boolean allAscii = true;
+        for (int p = 0; p < pairs; p++) {
+            char opener = openers.charAt(p);
+            char closer = closers.charAt(p);
+            if (codes[opener] != 0 || codes[closer] != 0 || opener == closer) {
+                throw new IllegalArgumentException("Bracket used twice: " + opener + closer);
+            }
+            codes[opener] = (byte) (p + 1);
+            codes[closer] = (byte) -(p + 1);
+            allAscii &= opener < 0x80 && closer < 0x80;
+        }
+        single = pairs == 1;
+        singleOpener = openers.charAt(0);
+        singleCloser = closers.charAt(0);
+        ascii = allAscii;
+    }
+
+    public boolean isBalanced(CharSequence s) {
+        return firstMismatch(s) == BALANCED;
+    }
+
+    public long firstMismatch(CharSequence s) {
+        Scan scan = new Scan();
+        char[] buffer = new char[Math.min(BUFFER_SIZE, Math.max(1, s.length()))];
+        int length = s.length();
+        for (int start = 0; start < length; start += buffer.length) {
+            int count = Math.min(buffer.length, length - start);
+            if (s instanceof String) {
+                ((String) s).getChars(start, start + count, buffer, 0);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    buffer[i] = s.charAt(start + i);
+                }
+            }
+            long mismatch = scan.chars(buffer, count);
+            if (mismatch != BALANCED) {
+                return mismatch;
+            }
+        }
+        return scan.finish();
+    }
+
+    // reads in to the end (or the first mismatch); in is not closed
+    public long firstMismatch(Reader in) throws IOException {
+        Scan scan = new Scan();
+        char[] buffer = new char[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            long mismatch = scan.chars(buffer, read);
+            if (mismatch != BALANCED) {
+                return mismatch;
+            }
+        }
+        return scan.finish();
+    }
+
+    // reads in to the end (or the first mismatch); in is not closed
+    public long firstMismatch(ReadableByteChannel in) throws IOException {
+        if (!ascii) {
+            return firstMismatch(Channels.newReader(in, StandardCharsets.UTF_8));
+        }
+        Scan scan = new Scan();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (in.read(buffer.clear()) >= 0) {
+            long mismatch = scan.bytes(buffer.array(), buffer.position());
+            if (mismatch != BALANCED) {
+                return mismatch;
+            }
+        }
+        return scan.finish();
+    }
+
+    // the state of one pass, carried from buffer to buffer
+    private final class Scan {
+        private byte[] stack = new byte[64];
+        private int size;
+        // single-pair mode: open brackets so far
+        private long depth;
+        // offset of buffer[0] in the whole input
+        private long offset;
+
+        long chars(char[] buffer, int count) {
+            int mismatch = single ? countChars(buffer, count) : matchChars(buffer, count);
+            return advance(mismatch, count);
+        }
+
+        long bytes(byte[] buffer, int count) {
+            int mismatch = single ? countBytes(buffer, count) : matchBytes(buffer, count);
+            return advance(mismatch, count);
+        }
+
+        long finish() {
+            return size == 0 && depth == 0 ? BALANCED : offset;
+        }
+
+        private long advance(int mismatch, int count) {
+            if (mismatch >= 0) {
+                return offset + mismatch;
+            }
+            offset += count;
+            return BALANCED;
+        }
+
+        // each returns the index of the mismatch in buffer, or -1
+
+        private int countChars(char[] buffer, int count) {
+            char opener = singleOpener;
+            char closer = singleCloser;
+            long depth = this.depth;
+            for (int i = 0; i < count; i++) {
+                char c = buffer[i];
+                if (c == opener) {
+                    depth++;
+                } else if (c == closer && --depth < 0) {
+                    return i;
+                }
+            }
+            this.depth = depth;
+            return -1;
+        }
+
+        private int countBytes(byte[] buffer, int count) {
+            byte opener = (byte) singleOpener;
+            byte closer = (byte) singleCloser;
+            long depth = this.depth;
+            for (int i = 0; i < count; i++) {
+                byte b = buffer[i];
+                if (b == opener) {
+                    depth++;
+                } else if (b == closer && --depth < 0) {
+                    return i;
+                }
+            }
+            this.depth = depth;
+            return -1;
+        }
+
+        private int matchChars(char[] buffer, int count) {
+            byte[] codes = BracketValidator.this.codes;
+            byte[] stack = this.stack;
+            int size = this.size;
+            for (int i = 0; i < count; i++) {
+                int code = codes[buffer[i]];
+                if (code > 0) {
+                    if (size == stack.length) {
+                        stack = grow(stack);
+                    }
+                    stack[size++] = (byte) code;
+                } else if (code < 0 && (size == 0 || stack[--size] != -code)) {
+                    return i;
+                }
+            }
+            this.size = size;
+            return -1;
+        }
+
+        private int matchBytes(byte[] buffer, int count) {
+            byte[] codes = BracketValidator.this.codes;
+            byte[] stack = this.stack;
+            int size = this.size;
+            for (int i = 0; i < count; i++) {
+                int code = codes[buffer[i] & 0xFF];
+                if (code > 0) {
+                    if (size == stack.length) {
+                        stack = grow(stack);
+                    }
+                    stack[size++] = (byte) code;
+                } else if (code < 0 && (size == 0 || stack[--size] != -code)) {
+                    return i;
+                }
+            }
+            this.size = size;
+            return -1;
+        }
+
+        // the stack only grows with the nesting depth
+        private byte[] grow(byte[] stack) {
+            this.stack = Arrays.copyOf(stack, stack.length * 2);
+            return this.stack;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package text;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// reverses text by code point: a surrogate pair (one character outside the BMP, e.g. most
+// emoji) keeps its high-low order, so the result is valid UTF-16 whenever the input is,
+// exactly like StringBuilder.reverse.
+// - reverse(char[], ...): in place, two pointers swapping inward, then one pass swaps the
+//   pairs that ended up low-high back (cheaper than checking for surrogates while swapping)
+// - reverse(CharSequence): one char[] copy plus the String
+// - reverse(Reader, Writer): text up to memoryLimit chars is read into one buffer and
+//   reversed there; longer text is spilled to a temporary file of raw UTF-16 and read back
+//   from the end one buffer at a time. Memory use is bounded by that char[] of memoryLimit
+//   chars, plus, on the temp-file path only, a direct buffer of the same size: at most
+//   4 * memoryLimit bytes in all
+public final class TextReverser {
+    public static final int DEFAULT_MEMORY_LIMIT = 8 << 20;
+    private static final int READ_SIZE = 8192;
+
+    private TextReverser() {
+    }
+
+    public static void reverse(char[] a) {
+        reverse(a, 0, a.length);
+    }
+
+    // reverses a[from, to)
+    public static void reverse(char[] a, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            char temp = a[i];
+            a[i] = a[j];
+            a[j] = temp;
+        }
+        repairPairs(a, from, to);
+    }
+
+    // a pair reversed along with everything else reads low-high; put it back to high-low.
+    // (c & 0xFC00) tests the surrogate ranges in one compare each: 0xDC00 low, 0xD800 high
+    private static void repairPairs(char[] a, int from, int to) {
+        int i = from;
+        int end = to - 1;
+        while (i < end) {
+            char c = a[i];
+            if ((c & 0xFC00) == 0xDC00) {
+                char next = a[i + 1];
+                if ((next & 0xFC00) == 0xD800) {
+                    a[i] = next;
+                    a[i + 1] = c;
+                    i += 2;
+                    continue;
+                }
+            }
+            i++;
+        }
+    }
+
+    public static String reverse(CharSequence s) {
+        char[] chars = new char[s.length()];
+        if (s instanceof String) {
+            ((String) s).getChars(0, chars.length, chars, 0);
+        } else {
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = s.charAt(i);
+            }
+        }
+        reverse(chars);
+        return new String(chars);
+    }
+
+    public static long reverse(Reader in, Writer out) throws IOException {
+        return reverse(in, out, DEFAULT_MEMORY_LIMIT);
+    }
+
+    // writes the text of in reversed to out; returns the number of chars. Neither stream is
+    // closed. Input of exactly memoryLimit chars is still reversed in memory
+    public static long reverse(Reader in, Writer out, int memoryLimit) throws IOException {
+        if (memoryLimit < 2 || memoryLimit > (1 << 30)) {
+            throw new IllegalArgumentException("memoryLimit: " + memoryLimit);
+        }
+        char[] buffer = new char[Math.min(memoryLimit, READ_SIZE)];
+        int length = 0;
+        while (true) {
+            if (length == buffer.length) {
+                if (length == memoryLimit) {
+                    // full: spill only if there is more text, not when it fits exactly
+                    int extra = in.read();
+                    if (extra < 0) {
+                        break;
+                    }
+                    return reverseLarge(in, out, buffer, (char) extra);
+                }
+                buffer = Arrays.copyOf(buffer, (int) Math.min((long) length * 2, memoryLimit));
+            }
+            int read = in.read(buffer, length, buffer.length - length);
+            if (read < 0) {
+                break;
+            }
+            length += read;
+        }
+        reverse(buffer, 0, length);
+        out.write(buffer, 0, length);
+        return length;
+    }
+
+    // buffer is full and extra (then maybe more text) follows: copy everything to a temp
+    // file, then reverse it back to front one buffer at a time
+    private static long reverseLarge(Reader in, Writer out, char[] buffer, char extra)
+            throws IOException {
+        Path file = Files.createTempFile("reverse", ".utf16");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+            ByteBuffer bytes = ByteBuffer.allocateDirect(buffer.length * 2);
+            CharBuffer chars = bytes.asCharBuffer();
+            long length = 0;
+            int filled = buffer.length;
+            // extra still has to go in, at the start of the second block
+            boolean carry = true;
+            while (filled > 0) {
+                chars.clear();
+                chars.put(buffer, 0, filled);
+                bytes.clear().limit(filled * 2);
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                length += filled;
+                if (carry) {
+                    buffer[0] = extra;
+                    filled = 1 + fill(in, buffer, 1);
+                    carry = false;
+                } else {
+                    filled = fill(in, buffer, 0);
+                }
+            }
+
+            long end = length;
+            while (end > 0) {
+                long start = Math.max(0, end - buffer.length);
+                int count = (int) (end - start);
+                bytes.clear().limit(count * 2);
+                long position = start * 2;
+                while (bytes.hasRemaining()) {
+                    position += channel.read(bytes, position);
+                }
+                chars.clear();
+                chars.get(buffer, 0, count);
+                // never split a pair: a low surrogate at the cut goes with the next
+                // (earlier) block, which holds its high surrogate
+                int first = 0;
+                if (start > 0 && Character.isLowSurrogate(buffer[0])) {
+                    first = 1;
+                }
+                reverse(buffer, first, count);
+                out.write(buffer, first, count - first);
+                end = start + first;
+            }
+            return length;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // reads into buffer[from, ...) until it is full or the input ends; returns the number of
+    // chars read
+    private static int fill(Reader in, char[] buffer, int from) throws IOException {
+        int filled = from;
+        while (filled < buffer.length) {
+            int read = in.read(buffer, filled, buffer.length - filled);
+            if (read < 0) {
+                break;
+            }
+            filled += read;
+        }
+        return filled - from;
+    }
+}
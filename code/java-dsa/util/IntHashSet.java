@@ -0,0 +1,104 @@
+package util;
+
+import java.util.Arrays;
+
+// open-addressing hash set of primitive ints (linear probing over a power-of-two table),
+// so membership checks never box to Integer. 0 marks a free slot, so the key 0 itself
+// is tracked by a separate flag
+public class IntHashSet {
+    private static final int FREE = 0;
+    private static final int MIN_CAPACITY = 4;
+
+    private int[] keys;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+    private int resizeAt;
+
+    public IntHashSet() {
+        this(8);
+    }
+
+    // sized so that expectedSize keys fit without a rehash
+    public IntHashSet(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    // smallest power of two that keeps the load factor at or below 1/2; add rehashes only
+    // once size goes past resizeAt (capacity / 2), so expectedSize keys fit
+    private static int tableSizeFor(int expectedSize) {
+        int wanted = Math.max(MIN_CAPACITY, expectedSize * 2);
+        return 1 << (32 - Integer.numberOfLeadingZeros(wanted - 1));
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity >> 1;
+    }
+
+    // fibonacci hashing, then fold the high bits down so the mask sees them
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    public int size() {
+        return hasZero ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // returns true if the key was not in the set yet
+    public boolean add(int key) {
+        if (key == FREE) {
+            if (hasZero) return false;
+            hasZero = true;
+            return true;
+        }
+        int slot = mix(key) & mask;
+        int existing;
+        while ((existing = keys[slot]) != FREE) {
+            if (existing == key) return false;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    public boolean contains(int key) {
+        if (key == FREE) return hasZero;
+        int slot = mix(key) & mask;
+        int existing;
+        while ((existing = keys[slot]) != FREE) {
+            if (existing == key) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        size = 0;
+        hasZero = false;
+    }
+
+    private void rehash(int capacity) {
+        int[] old = keys;
+        allocate(capacity);
+        for (int key : old) {
+            if (key != FREE) {
+                int slot = mix(key) & mask;
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package util;
+
+import java.util.Arrays;
+
+// recycled nodes for one linked structure, so a queue or stack under steady churn stops
+// allocating a node per insert. The structure calls acquire() before new Node(...) and
+// release() for a node it unlinked and never handed out. At most capacity nodes are kept;
+// further releases are dropped for the GC. Every TRIM_INTERVAL calls (or on trim()) the pool
+// frees the nodes that sat unused since the last trim (the lowest size it reached), so a
+// burst does not keep its peak number of nodes alive forever.
+// Not thread-safe: one pool per structure, or per thread for structures used by one thread.
+// Not for LockFreeStack / LockFreeQueue: a popped node coming back as a new top while another
+// thread still holds the old reference lets that thread's stale CAS succeed (ABA)
+public class NodePool<T> {
+    public static final int DEFAULT_CAPACITY = 1024;
+    static final int TRIM_INTERVAL = 1 << 16;
+    private static final int MIN_ARRAY = 16;
+
+    private final int capacity;
+    private Object[] nodes = new Object[MIN_ARRAY];
+    private int size;
+    // smallest size since the last trim: that many nodes were not needed in the meantime
+    private int lowWater;
+    private int calls;
+
+    public NodePool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public NodePool(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    // a recycled node, or null when the pool is empty (the caller allocates then)
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        tick();
+        if (size == 0) {
+            return null;
+        }
+        T node = (T) nodes[--size];
+        nodes[size] = null;
+        if (size < lowWater) {
+            lowWater = size;
+        }
+        return node;
+    }
+
+    // the caller must have cleared the node's links; false when the pool is full
+    public boolean release(T node) {
+        tick();
+        if (size == capacity) {
+            return false;
+        }
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, (int) Math.min((long) size * 2, capacity));
+        }
+        nodes[size++] = node;
+        return true;
+    }
+
+    // drops the nodes that stayed unused since the last trim; they sit at the bottom of the
+    // stack, because acquire and release only work at the top
+    public void trim() {
+        int idle = lowWater;
+        if (idle > 0) {
+            System.arraycopy(nodes, idle, nodes, 0, size - idle);
+            Arrays.fill(nodes, size - idle, size, null);
+            size -= idle;
+        }
+        if (nodes.length > MIN_ARRAY && size < nodes.length / 4) {
+            nodes = Arrays.copyOf(nodes, Math.max(MIN_ARRAY, nodes.length / 2));
+        }
+        lowWater = size;
+        calls = 0;
+    }
+
+    public void clear() {
+        Arrays.fill(nodes, 0, size, null);
+        size = 0;
+        lowWater = 0;
+        trim();
+    }
+
+    private void tick() {
+        if (++calls == TRIM_INTERVAL) {
+            trim();
+        }
+    }
+}